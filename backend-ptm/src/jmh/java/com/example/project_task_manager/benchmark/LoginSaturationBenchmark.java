@@ -0,0 +1,108 @@
+package com.example.project_task_manager.benchmark;
+
+import com.example.project_task_manager.dto.TaskResponse;
+import com.example.project_task_manager.entity.TaskStatus;
+import com.example.project_task_manager.security.BoundedPasswordEncoder;
+import com.example.project_task_manager.security.PasswordHashingBusyException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * CRUD latency while logins saturate the CPU. Sixteen threads check
+ * passwords nonstop next to two threads serializing a task page, the CPU
+ * part of a CRUD read. Compare the crud p0.99 of the two hashing modes:
+ * with "caller" BCrypt runs on every login thread and crowds the CRUD
+ * threads out; with "bounded" it is capped by the hashing pool and the
+ * excess logins are turned away, so crud stays close to its idle latency.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class LoginSaturationBenchmark {
+
+    @Param({"bounded", "caller"})
+    public String hashing;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private PasswordEncoder passwordEncoder;
+    private String hash;
+    private List<TaskResponse> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder();
+        hash = bcrypt.encode("password");
+        passwordEncoder = "bounded".equals(hashing)
+                ? new BoundedPasswordEncoder(bcrypt, BoundedPasswordEncoder.defaultThreads(), 64, Duration.ofSeconds(2))
+                : bcrypt;
+
+        page = new ArrayList<>(20);
+        for (int i = 0; i < 20; i++) {
+            page.add(TaskResponse.builder()
+                    .id((long) i)
+                    .title("Task " + i)
+                    .description("Description of task " + i)
+                    .dueDate(LocalDate.now().plusDays(i))
+                    .creationDate(LocalDateTime.now())
+                    .updateDate(LocalDateTime.now())
+                    .status(TaskStatus.IN_PROGRESS)
+                    .projectId(1L)
+                    .projectTitle("Benchmark Project")
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (passwordEncoder instanceof BoundedPasswordEncoder bounded) {
+            bounded.close();
+        }
+    }
+
+    @Benchmark
+    @Group("saturated")
+    @GroupThreads(16)
+    public boolean login() {
+        try {
+            return passwordEncoder.matches("password", hash);
+        } catch (PasswordHashingBusyException e) {
+            // Rejected with 503; the client backs off instead of spinning on the CPU
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Group("saturated")
+    @GroupThreads(2)
+    public byte[] crud() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.project_task_manager.benchmark;
+
+import com.example.project_task_manager.dto.ProjectSummaryResponse;
+import com.example.project_task_manager.dto.TaskResponse;
+import com.example.project_task_manager.entity.Project;
+import com.example.project_task_manager.entity.Task;
+import com.example.project_task_manager.entity.TaskStatus;
+import com.example.project_task_manager.entity.User;
+import com.example.project_task_manager.mapper.ProjectMapper;
+import com.example.project_task_manager.mapper.TaskMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping. Project progress comes from the denormalized
+ * counters, so summary mapping should cost the same at any task count;
+ * a regression to walking the task list shows up as growth with taskCount.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class MappingBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int taskCount;
+
+    private final ProjectMapper projectMapper = new ProjectMapper();
+    private final TaskMapper taskMapper = new TaskMapper();
+    private Project project;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .id(1L)
+                .name("Benchmark User")
+                .email("benchmark@example.com")
+                .build();
+        project = Project.builder()
+                .id(1L)
+                .title("Benchmark Project")
+                .description("Project with " + taskCount + " tasks")
+                .creationDate(LocalDateTime.now())
+                .lastModifiedDate(LocalDateTime.now())
+                .user(user)
+                .build();
+
+        List<Task> tasks = new ArrayList<>(taskCount);
+        int completed = 0;
+        for (int i = 0; i < taskCount; i++) {
+            TaskStatus status = i % 3 == 0 ? TaskStatus.COMPLETED : TaskStatus.IN_PROGRESS;
+            if (status == TaskStatus.COMPLETED) {
+                completed++;
+            }
+            tasks.add(Task.builder()
+                    .id((long) i)
+                    .title("Task " + i)
+                    .description("Description of task " + i)
+                    .dueDate(LocalDate.now().plusDays(i % 30))
+                    .status(status)
+                    .creationDate(LocalDateTime.now())
+                    .updateDate(LocalDateTime.now())
+                    .project(project)
+                    .build());
+        }
+        project.setTasks(tasks);
+        project.setTotalTasks(taskCount);
+        project.setCompletedTasks(completed);
+        task = tasks.getLast();
+    }
+
+    @Benchmark
+    public ProjectSummaryResponse projectToSummaryResponse() {
+        return projectMapper.toSummaryResponse(project);
+    }
+
+    @Benchmark
+    public TaskResponse taskToResponse() {
+        return taskMapper.toResponse(task);
+    }
+}
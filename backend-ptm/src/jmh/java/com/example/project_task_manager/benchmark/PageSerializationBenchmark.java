@@ -0,0 +1,69 @@
+package com.example.project_task_manager.benchmark;
+
+import com.example.project_task_manager.dto.TaskResponse;
+import com.example.project_task_manager.entity.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of a task page, as returned by GET /api/projects/{id}/tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class PageSerializationBenchmark {
+
+    // 5 is the endpoint's default page size, 100 the largest a client can ask for
+    @Param({"5", "100"})
+    public int pageSize;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private Page<TaskResponse> page;
+
+    @Setup
+    public void setUp() {
+        List<TaskResponse> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(TaskResponse.builder()
+                    .id((long) i)
+                    .title("Task " + i)
+                    .description("Description of task " + i)
+                    .dueDate(LocalDate.now().plusDays(i))
+                    .creationDate(LocalDateTime.now())
+                    .updateDate(LocalDateTime.now())
+                    .status(i % 2 == 0 ? TaskStatus.IN_PROGRESS : TaskStatus.COMPLETED)
+                    .projectId(1L)
+                    .projectTitle("Benchmark Project")
+                    .build());
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "creationDate")), 1000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+}
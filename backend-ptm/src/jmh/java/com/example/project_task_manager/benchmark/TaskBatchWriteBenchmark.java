@@ -0,0 +1,129 @@
+package com.example.project_task_manager.benchmark;
+
+import com.example.project_task_manager.ProjectTaskManagerApplication;
+import com.example.project_task_manager.dto.TaskRequest;
+import com.example.project_task_manager.dto.TaskResponse;
+import com.example.project_task_manager.entity.Project;
+import com.example.project_task_manager.entity.User;
+import com.example.project_task_manager.repository.ProjectRepository;
+import com.example.project_task_manager.repository.UserRepository;
+import com.example.project_task_manager.search.SearchBackend;
+import com.example.project_task_manager.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating taskCount tasks one request at a time against one batch
+ * request, through TaskService on the test profile's in-memory H2. Divide
+ * taskCount by the score for tasks per millisecond. The single path pays a
+ * transaction, an INSERT and a counter UPDATE per task; the batch path one
+ * transaction, JDBC-batched INSERTs and one counter UPDATE. The test
+ * profile's in-memory search index is swapped for a no-op backend: it
+ * re-reads the whole project after every commit, which the PostgreSQL
+ * backend (generated columns) never does, and it would dominate the single
+ * path. H2 has no
+ * network round trip, so the gap against PostgreSQL is wider still; point
+ * the run at one with -jvmArgs "-Dspring.datasource.url=jdbc:postgresql://..."
+ * plus the username, password and driver-class-name properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskBatchWriteBenchmark {
+
+    // HS256 key of at least 256 bits, base64 encoded
+    private static final String SECRET = "c2VjcmV0LWtleS1mb3ItYmVuY2htYXJrcy0wMTIzNDU2Nzg5YWJjZGVm";
+
+    @Param({"10", "100", "1000"})
+    public int taskCount;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private ProjectRepository projectRepository;
+    private User user;
+    private Long projectId;
+    private List<TaskRequest> requests;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        SearchBackend noSearch = (userId, query, after, limit) -> List.of();
+        context = new SpringApplicationBuilder(ProjectTaskManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .initializers(applicationContext -> applicationContext.getBeanFactory()
+                        .registerSingleton("noSearchBackend", noSearch))
+                .run("--jwt.secret=" + SECRET,
+                        "--app.search.backend=none",
+                        "--jwt.expiration=3600000",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        taskService = context.getBean(TaskService.class);
+        projectRepository = context.getBean(ProjectRepository.class);
+        user = context.getBean(UserRepository.class).save(User.builder()
+                .name("Benchmark User")
+                .email("benchmark-" + UUID.randomUUID() + "@example.com")
+                .password("unused")
+                .build());
+
+        requests = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            TaskRequest request = new TaskRequest();
+            request.setTitle("Task " + i);
+            request.setDescription("Description of task " + i);
+            request.setDueDate(LocalDate.now().plusDays(i % 30));
+            requests.add(request);
+        }
+    }
+
+    // Each operation writes into an empty project, so every invocation starts from the same state.
+    // Operations take milliseconds, so the per-invocation setup does not skew the timing
+    @Setup(Level.Invocation)
+    public void createProject() {
+        projectId = projectRepository.save(Project.builder()
+                .title("Benchmark Project")
+                .user(user)
+                .build()).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskResponse> singleRequests() {
+        List<TaskResponse> created = new ArrayList<>(taskCount);
+        for (TaskRequest request : requests) {
+            created.add(taskService.createTask(projectId, request, user.getId()));
+        }
+        return created;
+    }
+
+    @Benchmark
+    public List<TaskResponse> batchRequest() {
+        return taskService.createTasks(projectId, requests, user.getId());
+    }
+}
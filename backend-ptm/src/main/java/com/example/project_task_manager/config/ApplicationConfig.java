@@ -1,7 +1,15 @@
 package com.example.project_task_manager.config;
 
 import com.example.project_task_manager.repository.UserRepository;
+import com.example.project_task_manager.security.BoundedPasswordEncoder;
+import com.example.project_task_manager.security.PasswordEncoders;
+import com.example.project_task_manager.security.TimedPasswordEncoder;
+import com.example.project_task_manager.security.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,9 +18,10 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 @Configuration
 @RequiredArgsConstructor
 public class ApplicationConfig {
@@ -26,9 +35,12 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder,
+                                                         UserDetailsServiceImpl userDetailsPasswordService) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // Rehashes at sign-in when the stored hash is weaker than the configured one
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
@@ -37,8 +49,25 @@ public class ApplicationConfig {
         return config.getAuthenticationManager();
     }
 
+    // Configured algorithm and work factor, hashed on a bounded pool so a login storm cannot take every core
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${app.security.password.algorithm:bcrypt}") String algorithm,
+            @Value("${app.security.password.bcrypt.strength:10}") int bcryptStrength,
+            @Value("${app.security.password.argon2.memory-kib:19456}") int argon2MemoryKib,
+            @Value("${app.security.password.argon2.iterations:2}") int argon2Iterations,
+            @Value("${app.security.password.argon2.parallelism:1}") int argon2Parallelism,
+            @Value("${app.security.password-hashing.threads:0}") int threads,
+            @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.password-hashing.retry-after:2s}") Duration retryAfter) {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                new TimedPasswordEncoder(PasswordEncoders.delegating(
+                        algorithm, bcryptStrength, argon2MemoryKib, argon2Iterations, argon2Parallelism), meterRegistry),
+                threads > 0 ? threads : BoundedPasswordEncoder.defaultThreads(),
+                queueCapacity,
+                retryAfter);
+        new ExecutorServiceMetrics(encoder.getExecutor(), "password-hashing", Tags.empty()).bindTo(meterRegistry);
+        return encoder;
     }
 }
@@ -0,0 +1,30 @@
+package com.example.project_task_manager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Lets the PostgreSQL driver rewrite JDBC insert batches into multi-row
+ * INSERT statements. Applied only to PostgreSQL URLs, since other drivers
+ * (H2 in tests) reject the unknown connection property.
+ */
+@Configuration
+public class PostgresBatchConfig {
+
+    @Bean
+    public static BeanPostProcessor postgresBatchRewritePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getJdbcUrl() != null
+                        && dataSource.getJdbcUrl().startsWith("jdbc:postgresql:")) {
+                    dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.project_task_manager.config;
 
 import com.example.project_task_manager.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -20,20 +23,29 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final AuthenticationProvider authenticationProvider;
+    private final Environment environment;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .cors(cors -> {})
                 .csrf(AbstractHttpConfigurer::disable)
-                .authorizeHttpRequests(auth -> auth
-                        // Allow preflight requests
-                        .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
-                        // Public endpoints
-                        .requestMatchers("/api/auth/**", "/api/test/public").permitAll()
-                        // All other endpoints require authentication
-                        .anyRequest().authenticated()
-                )
+                .authorizeHttpRequests(auth -> {
+                    auth
+                            // Streamed responses re-dispatch once done; the original request was already authorized
+                            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                            // Allow preflight requests
+                            .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                            // Public endpoints
+                            .requestMatchers("/api/auth/**", "/api/test/public").permitAll();
+                    // Probes and the Prometheus scrape carry no token. They are open only on a management
+                    // port of their own, which is not published; on the application port they need a token
+                    if (ManagementPortType.get(environment) == ManagementPortType.DIFFERENT) {
+                        auth.requestMatchers("/actuator/health/**", "/actuator/info", "/actuator/prometheus").permitAll();
+                    }
+                    // All other endpoints require authentication
+                    auth.anyRequest().authenticated();
+                })
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
@@ -0,0 +1,25 @@
+package com.example.project_task_manager.controller;
+
+import com.example.project_task_manager.notification.ChangeNotificationService;
+import com.example.project_task_manager.security.AuthenticatedUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final ChangeNotificationService changeNotificationService;
+
+    // Emits "ready" on connect, then "project-changed" events; "resync" means events were dropped
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal AuthenticatedUser user) {
+        return changeNotificationService.subscribe(user.getId());
+    }
+}
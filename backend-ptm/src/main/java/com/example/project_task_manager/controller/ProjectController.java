@@ -1,19 +1,23 @@
 package com.example.project_task_manager.controller;
 
+import com.example.project_task_manager.dto.CursorPage;
 import com.example.project_task_manager.dto.ProjectRequest;
 import com.example.project_task_manager.dto.ProjectResponse;
 import com.example.project_task_manager.dto.ProjectSummaryResponse;
-import com.example.project_task_manager.entity.User;
+import com.example.project_task_manager.security.AuthenticatedUser;
 import com.example.project_task_manager.service.ProjectService;
+import com.example.project_task_manager.service.ProjectVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,51 +26,86 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProjectController {
 
+    // Clients may keep a copy but must revalidate it with If-None-Match on every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final ProjectService projectService;
+    private final ProjectVersionService projectVersionService;
 
     @PostMapping
     public ResponseEntity<ProjectResponse> createProject(
             @RequestBody ProjectRequest request,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         ProjectResponse response = projectService.createProject(request, user);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @GetMapping("/all")
     public ResponseEntity<List<ProjectSummaryResponse>> getAllProjects(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(projectVersionService.getProjectListEtag(user.getId()))) {
+            return null;
+        }
         List<ProjectSummaryResponse> projects = projectService.getAllUserProjects(user.getId());
-        return ResponseEntity.ok(projects);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(projects);
     }
 
     @GetMapping
     public ResponseEntity<Page<ProjectSummaryResponse>> getProjectsPage(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal AuthenticatedUser user,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "6") int size
+            @RequestParam(defaultValue = "6") int size,
+            WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(projectVersionService.getProjectListEtag(user.getId()))) {
+            return null;
+        }
         Pageable pageable = PageRequest.of(
                 page,
                 size,
                 Sort.by(Sort.Direction.DESC, "lastModifiedDate")
         );
 
-        return ResponseEntity.ok(
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(
                 projectService.getUserProjectsPage(user.getId(), pageable)
         );
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<ProjectSummaryResponse>> getProjectsSlice(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "6") int size,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(projectVersionService.getProjectListEtag(user.getId()))) {
+            return null;
+        }
+        int sliceSize = Math.max(1, Math.min(size, 100));
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(
+                projectService.getUserProjectsSlice(user.getId(), cursor, sliceSize)
+        );
+    }
+
     @GetMapping("/{projectId}")
     public ResponseEntity<ProjectResponse> getProject(
             @PathVariable Long projectId,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user,
+            WebRequest webRequest) {
+        // 304 without loading the project when the client's copy is current
+        if (projectVersionService.getProjectEtag(projectId, user.getId())
+                .filter(webRequest::checkNotModified)
+                .isPresent()) {
+            return null;
+        }
         ProjectResponse response = projectService.getProjectById(projectId, user.getId());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(response);
     }
 
     @GetMapping("/recent")
     public ResponseEntity<List<ProjectSummaryResponse>> getRecentlyModifiedProjects(
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         List<ProjectSummaryResponse> projects = projectService.getRecentlyModifiedProjects(user.getId());
         return ResponseEntity.ok(projects);
     }
@@ -75,7 +114,7 @@ public class ProjectController {
     public ResponseEntity<ProjectResponse> updateProject(
             @PathVariable Long projectId,
             @RequestBody ProjectRequest request,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         ProjectResponse response = projectService.updateProject(projectId, request, user.getId());
         return ResponseEntity.ok(response);
     }
@@ -83,7 +122,7 @@ public class ProjectController {
     @DeleteMapping("/{projectId}")
     public ResponseEntity<Void> deleteProject(
             @PathVariable Long projectId,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         projectService.deleteProject(projectId, user.getId());
         return ResponseEntity.noContent().build();
     }
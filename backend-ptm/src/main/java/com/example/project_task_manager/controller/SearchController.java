@@ -0,0 +1,31 @@
+package com.example.project_task_manager.controller;
+
+import com.example.project_task_manager.dto.CursorPage;
+import com.example.project_task_manager.dto.SearchResultResponse;
+import com.example.project_task_manager.security.AuthenticatedUser;
+import com.example.project_task_manager.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<CursorPage<SearchResultResponse>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        int pageSize = Math.max(1, Math.min(size, 100));
+        return ResponseEntity.ok(searchService.search(user.getId(), q, cursor, pageSize));
+    }
+}
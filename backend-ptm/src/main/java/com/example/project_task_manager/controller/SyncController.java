@@ -0,0 +1,27 @@
+package com.example.project_task_manager.controller;
+
+import com.example.project_task_manager.dto.SyncResponse;
+import com.example.project_task_manager.security.AuthenticatedUser;
+import com.example.project_task_manager.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(
+            @RequestParam(required = false) String since,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(syncService.sync(user.getId(), since));
+    }
+}
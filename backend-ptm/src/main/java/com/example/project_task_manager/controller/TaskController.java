@@ -1,33 +1,58 @@
 package com.example.project_task_manager.controller;
 
+import com.example.project_task_manager.dto.CursorPage;
+import com.example.project_task_manager.dto.TaskBatchUpdateRequest;
+import com.example.project_task_manager.dto.TaskFilter;
+import com.example.project_task_manager.dto.TaskImportReport;
 import com.example.project_task_manager.dto.TaskRequest;
 import com.example.project_task_manager.dto.TaskResponse;
-import com.example.project_task_manager.entity.User;
+import com.example.project_task_manager.entity.TaskStatus;
+import com.example.project_task_manager.security.AuthenticatedUser;
+import com.example.project_task_manager.service.ProjectVersionService;
+import com.example.project_task_manager.service.TaskExportService;
+import com.example.project_task_manager.service.TaskFileFormat;
+import com.example.project_task_manager.service.TaskImportService;
 import com.example.project_task_manager.service.TaskService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/projects/{projectId}/tasks")
 @RequiredArgsConstructor
 public class TaskController {
 
+    // Clients may keep a copy but must revalidate it with If-None-Match on every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final ProjectVersionService projectVersionService;
 
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(
             @PathVariable Long projectId,
             @RequestBody TaskRequest request,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         TaskResponse response = taskService.createTask(projectId, request, user.getId());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -35,19 +60,31 @@ public class TaskController {
     @GetMapping("/all")
     public ResponseEntity<List<TaskResponse>> getAllTasks(
             @PathVariable Long projectId,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user,
+            WebRequest webRequest) {
+        if (isNotModified(projectId, user, webRequest)) {
+            return null;
+        }
         List<TaskResponse> tasks = taskService.getAllProjectTasks(projectId, user.getId());
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(tasks);
     }
 
     @GetMapping
     public ResponseEntity<Page<TaskResponse>> getTasksPage(
             @PathVariable Long projectId,
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal AuthenticatedUser user,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "5") int size,
             @RequestParam(defaultValue = "creationDate") String sortBy,
-            @RequestParam(defaultValue = "DESC") String sortDirection) {
+            @RequestParam(defaultValue = "DESC") String sortDirection,
+            @RequestParam(required = false) Set<TaskStatus> status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince,
+            WebRequest webRequest) {
+        if (isNotModified(projectId, user, webRequest)) {
+            return null;
+        }
 
         Sort.Direction direction = sortDirection.equalsIgnoreCase("ASC")
                 ? Sort.Direction.ASC
@@ -55,17 +92,77 @@ public class TaskController {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        Page<TaskResponse> tasks = taskService.getProjectTasksPage(projectId, user.getId(), pageable);
-        return ResponseEntity.ok(tasks);
+        TaskFilter filter = TaskFilter.builder()
+                .statuses(status)
+                .dueFrom(dueFrom)
+                .dueTo(dueTo)
+                .updatedSince(updatedSince)
+                .build();
+
+        Page<TaskResponse> tasks = taskService.getProjectTasksPage(projectId, user.getId(), filter, pageable);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(tasks);
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<TaskResponse>> getTasksSlice(
+            @PathVariable Long projectId,
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int size,
+            @RequestParam(defaultValue = "creationDate") String sortBy,
+            WebRequest webRequest) {
+        if (isNotModified(projectId, user, webRequest)) {
+            return null;
+        }
+
+        int sliceSize = Math.max(1, Math.min(size, 100));
+        CursorPage<TaskResponse> tasks = taskService.getProjectTasksSlice(
+                projectId, user.getId(), sortBy, cursor, sliceSize);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(tasks);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @PathVariable Long projectId,
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        TaskFileFormat exportFormat = TaskFileFormat.from(format);
+        Long userId = user.getId();
+        taskExportService.checkProjectAccess(projectId, userId);
+
+        // Written on an async thread after this method returns, inside its own read-only transaction
+        StreamingResponseBody body = out -> taskExportService.export(projectId, userId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"project-" + projectId + "-tasks." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<TaskImportReport> importTasks(
+            @PathVariable Long projectId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @AuthenticationPrincipal AuthenticatedUser user,
+            InputStream body) throws IOException {
+        // The body is read as it arrives; it is never buffered whole
+        TaskImportReport report = taskImportService.importTasks(
+                projectId, user.getId(), TaskFileFormat.fromContentType(contentType), body);
+        return ResponseEntity.ok(report);
     }
 
     @GetMapping("/{taskId}")
     public ResponseEntity<TaskResponse> getTask(
             @PathVariable Long projectId,
             @PathVariable Long taskId,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user,
+            WebRequest webRequest) {
+        if (isNotModified(projectId, user, webRequest)) {
+            return null;
+        }
         TaskResponse response = taskService.getTaskById(projectId, taskId, user.getId());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(response);
     }
 
     @PutMapping("/{taskId}")
@@ -73,7 +170,7 @@ public class TaskController {
             @PathVariable Long projectId,
             @PathVariable Long taskId,
             @RequestBody TaskRequest request,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         TaskResponse response = taskService.updateTask(projectId, taskId, request, user.getId());
         return ResponseEntity.ok(response);
     }
@@ -82,7 +179,7 @@ public class TaskController {
     public ResponseEntity<TaskResponse> markTaskAsCompleted(
             @PathVariable Long projectId,
             @PathVariable Long taskId,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         TaskResponse response = taskService.markTaskAsCompleted(projectId, taskId, user.getId());
         return ResponseEntity.ok(response);
     }
@@ -91,8 +188,51 @@ public class TaskController {
     public ResponseEntity<Void> deleteTask(
             @PathVariable Long projectId,
             @PathVariable Long taskId,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         taskService.deleteTask(projectId, taskId, user.getId());
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskResponse>> createTasks(
+            @PathVariable Long projectId,
+            @RequestBody List<TaskRequest> requests,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        List<TaskResponse> response = taskService.createTasks(projectId, requests, user.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<List<TaskResponse>> updateTasks(
+            @PathVariable Long projectId,
+            @RequestBody List<TaskBatchUpdateRequest> requests,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        List<TaskResponse> response = taskService.updateTasks(projectId, requests, user.getId());
+        return ResponseEntity.ok(response);
+    }
+
+    @PatchMapping("/batch/complete")
+    public ResponseEntity<List<TaskResponse>> completeTasks(
+            @PathVariable Long projectId,
+            @RequestBody List<Long> taskIds,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        List<TaskResponse> response = taskService.completeTasks(projectId, taskIds, user.getId());
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<Void> deleteTasks(
+            @PathVariable Long projectId,
+            @RequestBody List<Long> taskIds,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        taskService.deleteTasks(projectId, taskIds, user.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    // Task reads share the project's ETag: every task mutation bumps the project's last modified date
+    private boolean isNotModified(Long projectId, AuthenticatedUser user, WebRequest webRequest) {
+        return projectVersionService.getProjectEtag(projectId, user.getId())
+                .filter(webRequest::checkNotModified)
+                .isPresent();
+    }
 }
@@ -0,0 +1,41 @@
+package com.example.project_task_manager.datasource;
+
+import com.example.project_task_manager.notification.ProjectChangeEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Remembers which users committed a change in the last few seconds, so
+ * their reads go to the primary until the replicas have caught up.
+ * A zero window turns this off.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, long maxSize) {
+        this.recentWriters = window.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProjectChange(ProjectChangeEvent event) {
+        recordWrite(event.userId());
+    }
+
+    public void recordWrite(Long userId) {
+        if (recentWriters != null && userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public boolean requiresPrimary(Long userId) {
+        return recentWriters != null && userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+}
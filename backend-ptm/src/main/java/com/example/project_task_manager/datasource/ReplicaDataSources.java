@@ -0,0 +1,19 @@
+package com.example.project_task_manager.datasource;
+
+import java.util.Map;
+import javax.sql.DataSource;
+
+/**
+ * The replica connection pools, keyed by pool name. Closed with the context.
+ */
+public record ReplicaDataSources(Map<String, DataSource> byKey) implements AutoCloseable {
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : byKey.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.project_task_manager.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+
+/**
+ * Measures the replication lag of each replica on a schedule. A replica
+ * serves reads only while its last measured lag is within the limit; one
+ * that has not been measured yet, or whose probe fails, does not.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final Map<String, JdbcTemplate> replicas;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Set<String> available = ConcurrentHashMap.newKeySet();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, String lagQuery, Duration maxLag) {
+        this.replicas = replicas.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> {
+                    JdbcTemplate jdbcTemplate = new JdbcTemplate(entry.getValue());
+                    jdbcTemplate.setQueryTimeout((int) Math.max(1, maxLag.toSeconds()));
+                    return jdbcTemplate;
+                }));
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:5s}")
+    public void checkLag() {
+        replicas.forEach((key, jdbcTemplate) -> {
+            boolean wasAvailable = available.contains(key);
+            boolean isAvailable;
+            try {
+                // Seconds behind the primary; null when the server is not replaying WAL
+                Double lagSeconds = jdbcTemplate.queryForObject(lagQuery, Double.class);
+                isAvailable = lagSeconds == null || lagSeconds * 1000 <= maxLag.toMillis();
+                if (!isAvailable && wasAvailable) {
+                    log.warn("Replica {} is {}s behind; sending its reads to the primary", key, lagSeconds);
+                }
+            } catch (RuntimeException e) {
+                isAvailable = false;
+                if (wasAvailable) {
+                    log.warn("Replica {} failed its lag check; sending its reads to the primary", key, e);
+                }
+            }
+
+            if (isAvailable) {
+                available.add(key);
+                if (!wasAvailable) {
+                    log.info("Replica {} is serving reads", key);
+                }
+            } else {
+                available.remove(key);
+            }
+        });
+    }
+
+    public boolean isAvailable(String key) {
+        return available.contains(key);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.project_task_manager.datasource;
+
+import com.example.project_task_manager.security.AuthenticatedUser;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+/**
+ * Source of connections for read-only transactions: the replicas in turn,
+ * skipping any that lag too far behind. Falls back to the primary when no
+ * replica is usable, or when the current user has just written and must
+ * see their own changes.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            ReplicaLagMonitor lagMonitor,
+            ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (readYourWritesTracker.requiresPrimary(currentUserId())) {
+            return PRIMARY;
+        }
+
+        List<String> usable = replicaKeys.stream()
+                .filter(lagMonitor::isAvailable)
+                .toList();
+        if (usable.isEmpty()) {
+            return PRIMARY;
+        }
+        return usable.get(Math.floorMod(nextReplica.getAndIncrement(), usable.size()));
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user
+                ? user.getId()
+                : null;
+    }
+}
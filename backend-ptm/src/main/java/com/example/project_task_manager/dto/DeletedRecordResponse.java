@@ -0,0 +1,18 @@
+package com.example.project_task_manager.dto;
+
+import com.example.project_task_manager.entity.DeletedRecordType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeletedRecordResponse {
+    private DeletedRecordType type;
+    private Long id;
+    private Long projectId;
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,21 @@
+package com.example.project_task_manager.dto;
+
+import com.example.project_task_manager.search.SearchResultType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchResultResponse {
+    private SearchResultType type;
+    private Long id;
+    private Long projectId;
+    private String title;
+    // HTML-escaped; matched terms are wrapped in <mark>
+    private String snippet;
+    private float rank;
+}
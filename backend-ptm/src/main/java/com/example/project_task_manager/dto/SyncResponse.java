@@ -0,0 +1,22 @@
+package com.example.project_task_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SyncResponse {
+    private List<ProjectSummaryResponse> projects;
+    private List<TaskResponse> tasks;
+    private List<DeletedRecordResponse> deleted;
+    // Pass back as "since" on the next sync
+    private String token;
+    // True when the client must replace its local state instead of merging
+    private boolean fullResync;
+}
@@ -0,0 +1,13 @@
+package com.example.project_task_manager.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class TaskBatchUpdateRequest {
+    private Long id;
+    private String title;
+    private String description;
+    private LocalDate dueDate;
+}
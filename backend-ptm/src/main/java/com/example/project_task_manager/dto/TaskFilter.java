@@ -0,0 +1,29 @@
+package com.example.project_task_manager.dto;
+
+import com.example.project_task_manager.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+// Optional restrictions on a task listing; null fields do not filter
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskFilter {
+    private Set<TaskStatus> statuses;
+    // Inclusive range; tasks without a due date never match a due-date bound
+    private LocalDate dueFrom;
+    private LocalDate dueTo;
+    private LocalDateTime updatedSince;
+
+    public boolean isEmpty() {
+        return (statuses == null || statuses.isEmpty())
+                && dueFrom == null && dueTo == null && updatedSince == null;
+    }
+}
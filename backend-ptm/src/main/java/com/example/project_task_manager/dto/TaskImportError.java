@@ -0,0 +1,13 @@
+package com.example.project_task_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskImportError {
+    private long row;
+    private String message;
+}
@@ -0,0 +1,18 @@
+package com.example.project_task_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskImportReport {
+    private int imported;
+    private int failed;
+    private List<TaskImportError> errors;
+    // True when more rows failed than the report lists
+    private boolean errorsTruncated;
+}
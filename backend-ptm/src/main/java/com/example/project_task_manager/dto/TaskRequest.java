@@ -1,6 +1,8 @@
 package com.example.project_task_manager.dto;
 
 import com.example.project_task_manager.entity.TaskStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 import java.time.LocalDate;
@@ -8,8 +10,11 @@ import java.time.LocalDateTime;
 
 @Data
 public class TaskRequest {
+    @NotBlank(message = "title is required")
+    @Size(max = 255, message = "title must be at most 255 characters")
     private String title;
+    @Size(max = 255, message = "description must be at most 255 characters")
     private String description;
     private LocalDate dueDate;
     private TaskStatus status;
-}
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package com.example.project_task_manager.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tombstone left behind by a hard delete, so delta sync can tell clients
+ * what to drop. Deleting a project leaves one tombstone for the project only;
+ * its tasks go with it on the client as well.
+ */
+@Entity
+@Table(name = "deleted_records", indexes = {
+        @Index(name = "idx_deleted_records_user_deleted_at", columnList = "user_id, deleted_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeletedRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private DeletedRecordType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public static DeletedRecord project(Long projectId, Long userId, LocalDateTime deletedAt) {
+        return new DeletedRecord(null, DeletedRecordType.PROJECT, projectId, projectId, userId, deletedAt);
+    }
+
+    public static DeletedRecord task(Long taskId, Long projectId, Long userId, LocalDateTime deletedAt) {
+        return new DeletedRecord(null, DeletedRecordType.TASK, taskId, projectId, userId, deletedAt);
+    }
+}
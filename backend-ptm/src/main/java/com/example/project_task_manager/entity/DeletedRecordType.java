@@ -0,0 +1,6 @@
+package com.example.project_task_manager.entity;
+
+public enum DeletedRecordType {
+    PROJECT,
+    TASK
+}
@@ -2,17 +2,25 @@ package com.example.project_task_manager.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_user_last_modified", columnList = "user_id, last_modified_date DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+// Only write changed columns so an entity flush never overwrites the task counters
+@DynamicUpdate
+// Not in the second-level cache: every task write bulk-updates the counters,
+// which evicts the whole region, so cached entries rarely survived to a second read
 public class Project {
 
     @Id
@@ -37,26 +45,27 @@ public class Project {
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Task> tasks;
 
+    // Denormalized task counters, maintained by ProjectRepository#adjustTaskCounters
+    @Column(name = "total_tasks", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int totalTasks = 0;
+
+    @Column(name = "completed_tasks", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int completedTasks = 0;
+
     // Method to update last modified date when a task is modified
     public void updateLastModifiedDate() {
         this.lastModifiedDate = LocalDateTime.now();
     }
 
     // Helper method to calculate progress
-    public int getTotalTasks() {
-        return tasks != null ? tasks.size() : 0;
-    }
-
-    public int getCompletedTasks() {
-        return tasks != null ? (int) tasks.stream()
-                .filter(task -> task.getStatus() == TaskStatus.COMPLETED)
-                .count() : 0;
-    }
-
     public double getProgressPercentage() {
-        int total = getTotalTasks();
+        int total = totalTasks;
         if (total == 0) return 0.0;
-        double percentage =  (getCompletedTasks() * 100.0) / total;
+        double percentage =  (completedTasks * 100.0) / total;
         return Math.round(percentage * 10.0) / 10.0;
     }
 
@@ -7,7 +7,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_project_creation", columnList = "project_id, creation_date DESC, id DESC"),
+        @Index(name = "idx_tasks_project_due", columnList = "project_id, due_date, id"),
+        @Index(name = "idx_tasks_project_status_due", columnList = "project_id, status, due_date"),
+        @Index(name = "idx_tasks_project_updated", columnList = "project_id, update_date"),
+        @Index(name = "idx_tasks_update_date", columnList = "update_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,8 +21,10 @@ import java.time.LocalDateTime;
 @Builder
 public class Task {
 
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -33,8 +41,11 @@ public class Task {
     @Column(name = "update_date")
     private LocalDateTime updateDate;
 
+    // Set on insert and changed only by TaskRepository.markCompleted, never by an entity flush:
+    // an edit flushed after a concurrent completion would write the stale status back.
+    // Unlike @DynamicUpdate this keeps every edit the same UPDATE, so batches stay batched
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private TaskStatus status = TaskStatus.IN_PROGRESS;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -2,6 +2,10 @@ package com.example.project_task_manager.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -10,7 +14,13 @@ import java.util.Collections;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "ux_users_email", columnList = "email", unique = true)
+})
+// Cached by id and by email (natural id); Hibernate updates or evicts both on write
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-by-email")
 @Getter
 @Setter
 @AllArgsConstructor
@@ -25,6 +35,7 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private String name;
 
+    @NaturalId
     @Column(nullable = false)
     private String email;
 
@@ -0,0 +1,39 @@
+package com.example.project_task_manager.job;
+
+import com.example.project_task_manager.repository.DeletedRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Drops sync tombstones past their retention. Clients whose token is older
+ * than that get a full resync instead of a delta.
+ */
+@Slf4j
+@Component
+public class DeletedRecordCleanupJob {
+
+    private final DeletedRecordRepository deletedRecordRepository;
+    private final Duration retention;
+
+    public DeletedRecordCleanupJob(
+            DeletedRecordRepository deletedRecordRepository,
+            @Value("${app.sync.tombstone-retention:30d}") Duration retention) {
+        this.deletedRecordRepository = deletedRecordRepository;
+        this.retention = retention;
+    }
+
+    @Transactional
+    @Scheduled(cron = "${app.sync.tombstone-cleanup.cron:0 30 3 * * *}")
+    public void deleteExpired() {
+        int deleted = deletedRecordRepository.deleteOlderThan(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Deleted {} expired sync tombstone(s)", deleted);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.project_task_manager.job;
+
+import com.example.project_task_manager.notification.ProjectChangeEvent;
+import com.example.project_task_manager.projection.ProjectOwnerView;
+import com.example.project_task_manager.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Recomputes the denormalized task counters of projects that drifted from
+ * the tasks table. Runs in id-ordered batches, one transaction per batch.
+ * Repaired projects get a new last modified date and a change event, like
+ * any other write, so caches and clients do not keep the wrong counters.
+ * It runs nightly; set on-startup to also run it when a node boots, e.g.
+ * once after migrating a database that had no counters yet.
+ */
+@Slf4j
+@Component
+public class ProjectCounterRepairJob {
+
+    private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final boolean runOnStartup;
+
+    public ProjectCounterRepairJob(
+            ProjectRepository projectRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.projects.counter-repair.batch-size:500}") int batchSize,
+            @Value("${app.projects.counter-repair.on-startup:false}") boolean runOnStartup) {
+        this.projectRepository = projectRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.runOnStartup = runOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairOnStartup() {
+        if (runOnStartup) {
+            repairAll();
+        }
+    }
+
+    @Scheduled(cron = "${app.projects.counter-repair.cron:0 0 3 * * *}")
+    public void repairAll() {
+        long afterId = 0L;
+        int repaired = 0;
+
+        while (true) {
+            final long cursor = afterId;
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<ProjectOwnerView> drifted =
+                        projectRepository.findWithDriftedTaskCounters(cursor, Limit.of(batchSize));
+                List<Long> driftedIds = drifted.stream().map(ProjectOwnerView::getId).toList();
+                if (!driftedIds.isEmpty()) {
+                    projectRepository.recomputeTaskCounters(driftedIds, LocalDateTime.now());
+                    drifted.forEach(project -> eventPublisher.publishEvent(
+                            ProjectChangeEvent.tasksChanged(project.getUserId(), project.getId())));
+                }
+                return driftedIds;
+            });
+
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            repaired += ids.size();
+            afterId = ids.getLast();
+        }
+
+        if (repaired > 0) {
+            log.info("Repaired task counters of {} project(s)", repaired);
+        }
+    }
+}
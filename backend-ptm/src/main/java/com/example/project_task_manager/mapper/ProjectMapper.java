@@ -3,19 +3,25 @@ package com.example.project_task_manager.mapper;
 import com.example.project_task_manager.dto.ProjectResponse;
 import com.example.project_task_manager.dto.ProjectSummaryResponse;
 import com.example.project_task_manager.entity.Project;
+import com.example.project_task_manager.projection.ProjectSummaryView;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ProjectMapper {
 
     public ProjectResponse toResponse(Project project) {
+        return toResponse(project, project.getUser().getName(), project.getUser().getEmail());
+    }
+
+    // For callers that already know the owner; reading it from the project would load the user
+    public ProjectResponse toResponse(Project project, String ownerName, String ownerEmail) {
         return ProjectResponse.builder()
                 .id(project.getId())
                 .title(project.getTitle())
                 .description(project.getDescription())
                 .creationDate(project.getCreationDate())
-                .ownerName(project.getUser().getName())
-                .ownerEmail(project.getUser().getEmail())
+                .ownerName(ownerName)
+                .ownerEmail(ownerEmail)
                 .totalTasks(project.getTotalTasks())
                 .completedTasks(project.getCompletedTasks())
                 .progressPercentage(project.getProgressPercentage())
@@ -33,4 +39,25 @@ public class ProjectMapper {
                 .progressPercentage(project.getProgressPercentage())
                 .build();
     }
+
+    public ProjectSummaryResponse toSummaryResponse(ProjectSummaryView view) {
+        int total = view.getTotalTasks();
+        int completed = view.getCompletedTasks();
+        return ProjectSummaryResponse.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .description(view.getDescription())
+                .creationDate(view.getCreationDate())
+                .totalTasks(total)
+                .completedTasks(completed)
+                .progressPercentage(progressPercentage(completed, total))
+                .build();
+    }
+
+    // Same rounding as Project#getProgressPercentage
+    private static double progressPercentage(int completed, int total) {
+        if (total == 0) return 0.0;
+        double percentage = (completed * 100.0) / total;
+        return Math.round(percentage * 10.0) / 10.0;
+    }
 }
\ No newline at end of file
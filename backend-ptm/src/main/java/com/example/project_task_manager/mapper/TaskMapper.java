@@ -2,6 +2,7 @@ package com.example.project_task_manager.mapper;
 
 import com.example.project_task_manager.dto.TaskResponse;
 import com.example.project_task_manager.entity.Task;
+import com.example.project_task_manager.projection.TaskView;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -20,4 +21,18 @@ public class TaskMapper {
                 .projectTitle(task.getProject().getTitle())
                 .build();
     }
+
+    public TaskResponse toResponse(TaskView task) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .dueDate(task.getDueDate())
+                .creationDate(task.getCreationDate())
+                .updateDate(task.getUpdateDate())
+                .status(task.getStatus())
+                .projectId(task.getProjectId())
+                .projectTitle(task.getProjectTitle())
+                .build();
+    }
 }
\ No newline at end of file
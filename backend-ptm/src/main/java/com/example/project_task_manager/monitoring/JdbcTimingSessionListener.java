@@ -0,0 +1,41 @@
+package com.example.project_task_manager.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the time spent executing statements and batches to the current
+ * request. Hibernate creates one instance per session (registered through
+ * hibernate.session.events.auto), and a session is used by one thread at a time.
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+
+    private long executeStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null && executeStart != 0) {
+            stats.jdbcExecuted(System.nanoTime() - executeStart);
+        }
+        executeStart = 0;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.project_task_manager.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements and JDBC time of each request, reports them in
+ * the X-Query-Count and Server-Timing headers and as metrics, and logs a
+ * warning when a request goes over the statement or repeated-statement
+ * threshold. With fail-on-threshold (set for tests) that warning becomes an
+ * exception, so an N+1 fails the build instead of reaching production.
+ * Streamed responses are skipped: their queries run on another thread.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final int warnThreshold;
+    private final int repeatThreshold;
+    private final boolean failOnThreshold;
+
+    public QueryCountFilter(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.query-count.warn-threshold:30}") int warnThreshold,
+            @Value("${app.query-count.repeat-threshold:10}") int repeatThreshold,
+            @Value("${app.query-count.fail-on-threshold:false}") boolean failOnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+        this.repeatThreshold = repeatThreshold;
+        this.failOnThreshold = failOnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.start();
+        request.setAttribute(RequestQueryStats.ATTRIBUTE, stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.stop();
+        }
+
+        if (request.isAsyncStarted()) {
+            return;
+        }
+        // Bodies written through message converters already got the headers from QueryCountHeaderAdvice
+        if (!response.isCommitted()) {
+            writeHeaders(response, stats);
+        }
+        String uri = uriPattern(request);
+        record(request.getMethod(), uri, stats);
+        checkThresholds(request.getMethod(), uri, stats);
+    }
+
+    private static void writeHeaders(HttpServletResponse response, RequestQueryStats stats) {
+        response.setHeader(QUERY_COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+        response.setHeader(SERVER_TIMING_HEADER, serverTiming(stats));
+    }
+
+    static String serverTiming(RequestQueryStats stats) {
+        return String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d statements\"",
+                stats.getJdbcNanos() / 1_000_000.0, stats.getStatementCount());
+    }
+
+    private void record(String method, String uri, RequestQueryStats stats) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        DistributionSummary.builder("app.http.requests.sql.statements")
+                .description("SQL statements issued per HTTP request")
+                .tags("method", method, "uri", uri)
+                .register(registry)
+                .record(stats.getStatementCount());
+        Timer.builder("app.http.requests.sql.time")
+                .description("JDBC execution time per HTTP request")
+                .tags("method", method, "uri", uri)
+                .register(registry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void checkThresholds(String method, String uri, RequestQueryStats stats) {
+        Map.Entry<String, Integer> repeated = stats.mostRepeatedStatement();
+        boolean tooMany = stats.getStatementCount() > warnThreshold;
+        boolean tooRepetitive = repeated != null && repeated.getValue() > repeatThreshold;
+        if (!tooMany && !tooRepetitive) {
+            return;
+        }
+
+        // Each threshold is printed next to the number that went over it
+        String message = String.format(Locale.ROOT,
+                "%s %s issued %d SQL statements%s; most repeated, %d times%s: %s",
+                method, uri, stats.getStatementCount(),
+                tooMany ? " (threshold " + warnThreshold + ")" : "",
+                repeated.getValue(),
+                tooRepetitive ? " (repeat threshold " + repeatThreshold + ")" : "",
+                repeated.getKey().replaceAll("\\s+", " "));
+        if (failOnThreshold) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    // The mapped pattern keeps the metric's uri tag bounded; unmatched requests share one value
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
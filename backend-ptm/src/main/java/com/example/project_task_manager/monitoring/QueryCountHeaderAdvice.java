@@ -0,0 +1,39 @@
+package com.example.project_task_manager.monitoring;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Sets the query headers just before a response body is written, because a
+ * large body commits the response before QueryCountFilter gets it back.
+ * The service call and its after-commit listeners have all run by then.
+ */
+@ControllerAdvice
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            response.getHeaders().set(QueryCountFilter.QUERY_COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+            response.getHeaders().set(QueryCountFilter.SERVER_TIMING_HEADER, QueryCountFilter.serverTiming(stats));
+        }
+        return body;
+    }
+}
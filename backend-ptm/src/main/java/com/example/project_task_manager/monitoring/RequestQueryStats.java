@@ -0,0 +1,69 @@
+package com.example.project_task_manager.monitoring;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statements and JDBC time of the request running on the current thread.
+ * Hibernate reports into it through {@link StatementCountingInspector} and
+ * {@link JdbcTimingSessionListener}; work on other threads (streamed exports,
+ * SSE senders, jobs) is not attributed to any request.
+ */
+public class RequestQueryStats {
+
+    public static final String ATTRIBUTE = RequestQueryStats.class.getName();
+
+    // Distinct statements remembered for the repeat check; the total is always counted
+    private static final int MAX_DISTINCT_STATEMENTS = 200;
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+    private int statementCount;
+    private long jdbcNanos;
+
+    public static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    void statementPrepared(String sql) {
+        statementCount++;
+        if (statementCounts.size() < MAX_DISTINCT_STATEMENTS || statementCounts.containsKey(sql)) {
+            statementCounts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void jdbcExecuted(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public Map<String, Integer> getStatementCounts() {
+        return Collections.unmodifiableMap(statementCounts);
+    }
+
+    // The statement issued most often, the usual shape of an N+1
+    public Map.Entry<String, Integer> mostRepeatedStatement() {
+        return statementCounts.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.project_task_manager.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares against the current request.
+ * A JDBC batch is prepared once, so it counts as one statement. Registered
+ * through hibernate.session_factory.statement_inspector; the SQL is passed
+ * through unchanged.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.statementPrepared(sql);
+        }
+        return sql;
+    }
+}
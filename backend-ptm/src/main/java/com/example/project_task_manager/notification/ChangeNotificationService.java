@@ -0,0 +1,128 @@
+package com.example.project_task_manager.notification;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes project change events to the SSE connections of the project's owner.
+ * Committed changes are collected per user and project and sent once per
+ * coalescing window, so a batch of 500 task edits is a single event.
+ */
+@Slf4j
+@Service
+public class ChangeNotificationService {
+
+    private final Duration coalesceWindow;
+    private final Duration heartbeatInterval;
+    private final Duration emitterTimeout;
+    private final int bufferSize;
+
+    private final Map<Long, Set<SseSubscriber>> subscribers = new ConcurrentHashMap<>();
+    // userId -> projectId -> changes seen in the current window
+    private final Map<Long, Map<Long, EnumSet<ProjectChangeType>>> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    public ChangeNotificationService(
+            @Value("${app.notifications.coalesce-window:250ms}") Duration coalesceWindow,
+            @Value("${app.notifications.heartbeat-interval:30s}") Duration heartbeatInterval,
+            @Value("${app.notifications.emitter-timeout:30m}") Duration emitterTimeout,
+            @Value("${app.notifications.buffer-size:64}") int bufferSize) {
+        this.coalesceWindow = coalesceWindow;
+        this.heartbeatInterval = heartbeatInterval;
+        this.emitterTimeout = emitterTimeout;
+        this.bufferSize = bufferSize;
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("sse-coalescer").daemon().factory());
+        long window = coalesceWindow.toMillis();
+        long heartbeat = heartbeatInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flush, window, window, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::sendHeartbeats, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            subscriber.close();
+            subscriber.getEmitter().complete();
+        }));
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        SseSubscriber subscriber = new SseSubscriber(userId, emitter, bufferSize);
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> {
+            unsubscribe(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(error -> unsubscribe(subscriber));
+
+        register(subscriber);
+        subscriber.start();
+        return emitter;
+    }
+
+    void register(SseSubscriber subscriber) {
+        subscribers.computeIfAbsent(subscriber.getUserId(), id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+    }
+
+    private void unsubscribe(SseSubscriber subscriber) {
+        subscriber.close();
+        subscribers.computeIfPresent(subscriber.getUserId(), (id, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProjectChange(ProjectChangeEvent event) {
+        // Nobody listening: nothing to collect
+        if (!subscribers.containsKey(event.userId())) {
+            return;
+        }
+        pending.compute(event.userId(), (userId, projects) -> {
+            Map<Long, EnumSet<ProjectChangeType>> changes = projects != null ? projects : new HashMap<>();
+            changes.computeIfAbsent(event.projectId(), id -> EnumSet.noneOf(ProjectChangeType.class)).add(event.type());
+            return changes;
+        });
+    }
+
+    void flush() {
+        for (Long userId : pending.keySet()) {
+            Map<Long, EnumSet<ProjectChangeType>> changes = pending.remove(userId);
+            Set<SseSubscriber> userSubscribers = subscribers.get(userId);
+            if (changes == null || userSubscribers == null) {
+                continue;
+            }
+            changes.forEach((projectId, types) -> {
+                ProjectChangeNotification notification = new ProjectChangeNotification(projectId, Set.copyOf(types));
+                userSubscribers.forEach(subscriber -> subscriber.sendChange(notification));
+            });
+        }
+    }
+
+    private void sendHeartbeats() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(SseSubscriber::sendHeartbeat));
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.project_task_manager.notification;
+
+/**
+ * Published by the services inside their transaction; listeners only see it
+ * once that transaction has committed.
+ */
+public record ProjectChangeEvent(Long userId, Long projectId, ProjectChangeType type) {
+
+    public static ProjectChangeEvent tasksChanged(Long userId, Long projectId) {
+        return new ProjectChangeEvent(userId, projectId, ProjectChangeType.TASKS_CHANGED);
+    }
+}
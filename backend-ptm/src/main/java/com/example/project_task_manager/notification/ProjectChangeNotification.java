@@ -0,0 +1,10 @@
+package com.example.project_task_manager.notification;
+
+import java.util.Set;
+
+/**
+ * Payload of a "project-changed" event: every kind of change a project saw
+ * during one coalescing window. Clients refetch the project, or run a delta sync.
+ */
+public record ProjectChangeNotification(Long projectId, Set<ProjectChangeType> changes) {
+}
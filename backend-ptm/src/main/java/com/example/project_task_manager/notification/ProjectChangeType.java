@@ -0,0 +1,8 @@
+package com.example.project_task_manager.notification;
+
+public enum ProjectChangeType {
+    PROJECT_CREATED,
+    PROJECT_UPDATED,
+    PROJECT_DELETED,
+    TASKS_CHANGED
+}
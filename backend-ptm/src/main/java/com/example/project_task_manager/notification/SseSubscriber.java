@@ -0,0 +1,101 @@
+package com.example.project_task_manager.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * One SSE connection. Events wait in a bounded queue and are written by a
+ * virtual thread, so a slow client only ever blocks its own sender. When the
+ * queue overflows it is replaced by a single "resync" event, telling the
+ * client to catch up with a delta sync instead.
+ */
+@Slf4j
+class SseSubscriber {
+
+    static final String PROJECT_CHANGED = "project-changed";
+    static final String RESYNC = "resync";
+    static final String READY = "ready";
+
+    // A null name marks a heartbeat comment
+    private record Message(String name, Object data) {
+    }
+
+    private static final Message HEARTBEAT = new Message(null, null);
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Message> queue;
+    private volatile Thread sender;
+    private volatile boolean closed;
+
+    SseSubscriber(Long userId, SseEmitter emitter, int bufferSize) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    Long getUserId() {
+        return userId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    void start() {
+        queue.offer(new Message(READY, ""));
+        sender = Thread.ofVirtual().name("sse-user-" + userId).start(this::drain);
+    }
+
+    void sendChange(ProjectChangeNotification notification) {
+        enqueue(new Message(PROJECT_CHANGED, notification));
+    }
+
+    void sendHeartbeat() {
+        // Only worth sending on an idle connection
+        if (queue.isEmpty()) {
+            enqueue(HEARTBEAT);
+        }
+    }
+
+    private void enqueue(Message message) {
+        if (closed || queue.offer(message)) {
+            return;
+        }
+        // Too far behind: everything queued is superseded by one resync
+        queue.clear();
+        queue.offer(new Message(RESYNC, ""));
+    }
+
+    private void drain() {
+        try {
+            while (!closed) {
+                Message message = queue.take();
+                if (message.name() == null) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    emitter.send(SseEmitter.event().name(message.name()).data(message.data(), MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the emitter callbacks unsubscribe us
+            log.debug("SSE send to user {} failed: {}", userId, e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    void close() {
+        closed = true;
+        Thread thread = sender;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+}
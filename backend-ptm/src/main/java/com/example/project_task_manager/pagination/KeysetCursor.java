@@ -0,0 +1,60 @@
+package com.example.project_task_manager.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset page: the sort key and the id that
+ * breaks ties. Clients only see the opaque, URL-safe encoded form.
+ * A {@code null} key stands for rows whose sort key is null.
+ */
+public record KeysetCursor(String key, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static KeysetCursor of(Object key, Long id) {
+        return new KeysetCursor(key != null ? key.toString() : null, id);
+    }
+
+    public static KeysetCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            String key = raw.substring(0, separator);
+            long id = Long.parseLong(raw.substring(separator + 1));
+            return new KeysetCursor(key.isEmpty() ? null : key, id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = (key != null ? key : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime keyAsDateTime() {
+        try {
+            return key != null ? LocalDateTime.parse(key) : null;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public LocalDate keyAsDate() {
+        try {
+            return key != null ? LocalDate.parse(key) : null;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
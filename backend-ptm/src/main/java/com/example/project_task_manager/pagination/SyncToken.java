@@ -0,0 +1,30 @@
+package com.example.project_task_manager.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Point in time a client last synced at. Clients only see the opaque,
+ * URL-safe encoded form and send it back unchanged.
+ */
+public record SyncToken(LocalDateTime syncedAt) {
+
+    public static SyncToken decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            return new SyncToken(LocalDateTime.parse(raw));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid sync token", e);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(syncedAt.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.project_task_manager.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Newest modification date and number of a user's projects; together they
+ * change whenever any project of the user is created, modified or deleted.
+ */
+public interface ProjectListVersion {
+
+    LocalDateTime getLastModifiedDate();
+
+    long getProjectCount();
+}
@@ -0,0 +1,12 @@
+package com.example.project_task_manager.projection;
+
+/**
+ * A project id with its owner's id, for publishing change events about
+ * projects that were modified without being loaded.
+ */
+public interface ProjectOwnerView {
+
+    Long getId();
+
+    Long getUserId();
+}
@@ -0,0 +1,24 @@
+package com.example.project_task_manager.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a project with its task counts, used by the
+ * summary endpoints so that the task collection is never loaded.
+ */
+public interface ProjectSummaryView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    LocalDateTime getCreationDate();
+
+    LocalDateTime getLastModifiedDate();
+
+    int getTotalTasks();
+
+    int getCompletedTasks();
+}
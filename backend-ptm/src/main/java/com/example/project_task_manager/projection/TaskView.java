@@ -0,0 +1,32 @@
+package com.example.project_task_manager.projection;
+
+import com.example.project_task_manager.entity.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a task with its project's title joined in,
+ * used by the list endpoints so that no lazy association is touched
+ * while mapping.
+ */
+public interface TaskView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    LocalDate getDueDate();
+
+    LocalDateTime getCreationDate();
+
+    LocalDateTime getUpdateDate();
+
+    TaskStatus getStatus();
+
+    Long getProjectId();
+
+    String getProjectTitle();
+}
@@ -0,0 +1,34 @@
+package com.example.project_task_manager.repository;
+
+import com.example.project_task_manager.entity.DeletedRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface DeletedRecordRepository extends JpaRepository<DeletedRecord, Long> {
+
+    List<DeletedRecord> findByUserIdAndDeletedAtAfterOrderByDeletedAtAsc(Long userId, LocalDateTime since);
+
+    // Tombstones for a batch of tasks in one INSERT ... SELECT; must run before the tasks are deleted.
+    // IDENTITY ids rule out JDBC batching, so saveAll would issue one INSERT per task
+    // Native because Hibernate renders JPQL inserts with a table alias, which only PostgreSQL accepts
+    @Modifying
+    @Query(value = "INSERT INTO deleted_records (entity_type, entity_id, project_id, user_id, deleted_at) " +
+            "SELECT 'TASK', t.id, t.project_id, :userId, :deletedAt FROM tasks t " +
+            "WHERE t.id IN (:taskIds) AND t.project_id = :projectId", nativeQuery = true)
+    int insertTaskTombstones(
+            @Param("taskIds") Collection<Long> taskIds,
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId,
+            @Param("deletedAt") LocalDateTime deletedAt
+    );
+
+    @Modifying
+    @Query("DELETE FROM DeletedRecord d WHERE d.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
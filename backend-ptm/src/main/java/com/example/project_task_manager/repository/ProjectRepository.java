@@ -1,29 +1,138 @@
 package com.example.project_task_manager.repository;
 
 import com.example.project_task_manager.entity.Project;
+import com.example.project_task_manager.projection.ProjectListVersion;
+import com.example.project_task_manager.projection.ProjectOwnerView;
+import com.example.project_task_manager.projection.ProjectSummaryView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project,Long> {
 
-    List<Project> findByUserId(Long userId);
+    // By id; the owner check reads the FK without loading the user
+    default Optional<Project> findByIdAndUserId(Long id, Long userId) {
+        return findById(id).filter(project -> project.getUser().getId().equals(userId));
+    }
 
-    Page<Project> findPageByUserId(Long userId, Pageable pageable);
+    // Reads the row with its owner in one statement, for responses that include the owner
+    @Query("SELECT p FROM Project p JOIN FETCH p.user u WHERE p.id = :id AND u.id = :userId")
+    Optional<Project> findWithOwnerByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 
-    Optional<Project> findByIdAndUserId(Long id, Long userId);
+    // Project summaries read straight from the denormalized task counters
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description, " +
+            "p.creationDate AS creationDate, p.lastModifiedDate AS lastModifiedDate, " +
+            "p.totalTasks AS totalTasks, p.completedTasks AS completedTasks " +
+            "FROM Project p WHERE p.user.id = :userId")
+    List<ProjectSummaryView> findSummariesByUserId(@Param("userId") Long userId);
 
-    @Query("SELECT p FROM Project p WHERE p.user.id = :userId " +
-            "AND p.lastModifiedDate >= :since " +
-            "ORDER BY p.lastModifiedDate DESC")
-    List<Project> findRecentlyModifiedProjects(
+    @Query(value = "SELECT p.id AS id, p.title AS title, p.description AS description, " +
+            "p.creationDate AS creationDate, p.lastModifiedDate AS lastModifiedDate, " +
+            "p.totalTasks AS totalTasks, p.completedTasks AS completedTasks " +
+            "FROM Project p WHERE p.user.id = :userId",
+            countQuery = "SELECT COUNT(p) FROM Project p WHERE p.user.id = :userId")
+    Page<ProjectSummaryView> findSummaryPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // Keyset pages ordered by (lastModifiedDate, id) DESC, no count query.
+    // The redundant "<=" bound lets the (user_id, last_modified_date, id) index seek to the cursor.
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description, " +
+            "p.creationDate AS creationDate, p.lastModifiedDate AS lastModifiedDate, " +
+            "p.totalTasks AS totalTasks, p.completedTasks AS completedTasks " +
+            "FROM Project p WHERE p.user.id = :userId " +
+            "ORDER BY p.lastModifiedDate DESC, p.id DESC")
+    List<ProjectSummaryView> findSummariesByUserIdFirst(@Param("userId") Long userId, Limit limit);
+
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description, " +
+            "p.creationDate AS creationDate, p.lastModifiedDate AS lastModifiedDate, " +
+            "p.totalTasks AS totalTasks, p.completedTasks AS completedTasks " +
+            "FROM Project p WHERE p.user.id = :userId " +
+            "AND p.lastModifiedDate <= :lastModified " +
+            "AND (p.lastModifiedDate < :lastModified OR p.id < :id) " +
+            "ORDER BY p.lastModifiedDate DESC, p.id DESC")
+    List<ProjectSummaryView> findSummariesByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("lastModified") LocalDateTime lastModified,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    // Delta sync; served by the (user_id, last_modified_date, id) index
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description, " +
+            "p.creationDate AS creationDate, p.lastModifiedDate AS lastModifiedDate, " +
+            "p.totalTasks AS totalTasks, p.completedTasks AS completedTasks " +
+            "FROM Project p WHERE p.user.id = :userId AND p.lastModifiedDate > :since")
+    List<ProjectSummaryView> findSummariesModifiedSince(
             @Param("userId") Long userId,
             @Param("since") LocalDateTime since
     );
+
+    // Validators for conditional GETs; both are answered from indexes without loading entities
+    @Query("SELECT p.lastModifiedDate FROM Project p WHERE p.id = :projectId AND p.user.id = :userId")
+    Optional<LocalDateTime> findLastModifiedDate(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    @Query("SELECT MAX(p.lastModifiedDate) AS lastModifiedDate, COUNT(p) AS projectCount " +
+            "FROM Project p WHERE p.user.id = :userId")
+    ProjectListVersion findListVersion(@Param("userId") Long userId);
+
+    // Atomically shift the task counters of a project and bump its last modified date
+    @Modifying
+    @Query("UPDATE Project p SET p.totalTasks = p.totalTasks + :totalDelta, " +
+            "p.completedTasks = p.completedTasks + :completedDelta, " +
+            "p.lastModifiedDate = :modifiedAt " +
+            "WHERE p.id = :projectId")
+    int adjustTaskCounters(
+            @Param("projectId") Long projectId,
+            @Param("totalDelta") int totalDelta,
+            @Param("completedDelta") int completedDelta,
+            @Param("modifiedAt") LocalDateTime modifiedAt
+    );
+
+    // Bump the last modified date without loading the project
+    @Modifying
+    @Query("UPDATE Project p SET p.lastModifiedDate = :modifiedAt WHERE p.id = :projectId")
+    int touch(@Param("projectId") Long projectId, @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    // Projects whose counters no longer match the tasks table, with their owners, in id order
+    @Query("SELECT p.id AS id, p.user.id AS userId FROM Project p WHERE p.id > :afterId AND (" +
+            "p.totalTasks <> (SELECT COUNT(t) FROM Task t WHERE t.project = p) OR " +
+            "p.completedTasks <> (SELECT COUNT(t) FROM Task t WHERE t.project = p " +
+            "AND t.status = com.example.project_task_manager.entity.TaskStatus.COMPLETED)) " +
+            "ORDER BY p.id")
+    List<ProjectOwnerView> findWithDriftedTaskCounters(@Param("afterId") Long afterId, Limit limit);
+
+    // Bumps the last modified date too, so ETags, delta sync and change listeners pick up the new counters
+    @Modifying
+    @Query("UPDATE Project p SET " +
+            "p.totalTasks = (SELECT COUNT(t) FROM Task t WHERE t.project.id = p.id), " +
+            "p.completedTasks = (SELECT COUNT(t) FROM Task t WHERE t.project.id = p.id " +
+            "AND t.status = com.example.project_task_manager.entity.TaskStatus.COMPLETED), " +
+            "p.lastModifiedDate = :modifiedAt " +
+            "WHERE p.id IN :projectIds")
+    int recomputeTaskCounters(
+            @Param("projectIds") Collection<Long> projectIds,
+            @Param("modifiedAt") LocalDateTime modifiedAt
+    );
+
+    // Most recently modified first, limited in SQL; walks the (user_id, last_modified_date, id) index
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description, " +
+            "p.creationDate AS creationDate, p.lastModifiedDate AS lastModifiedDate, " +
+            "p.totalTasks AS totalTasks, p.completedTasks AS completedTasks " +
+            "FROM Project p WHERE p.user.id = :userId AND p.lastModifiedDate >= :since " +
+            "ORDER BY p.lastModifiedDate DESC, p.id DESC")
+    List<ProjectSummaryView> findRecentSummaries(
+            @Param("userId") Long userId,
+            @Param("since") LocalDateTime since,
+            Limit limit
+    );
 }
@@ -1,16 +1,149 @@
 package com.example.project_task_manager.repository;
 
 import com.example.project_task_manager.entity.Task;
+import com.example.project_task_manager.projection.TaskView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TaskRepository extends JpaRepository<Task,Long> {
+public interface TaskRepository extends JpaRepository<Task,Long>, JpaSpecificationExecutor<Task> {
 
-    List<Task> findByProjectId(Long projectId);
-    Page<Task> findByProjectId(Long projectId, Pageable pageable);
-    Optional<Task> findByIdAndProjectId(Long id, Long projectId);
+    // Columns of TaskView; the owner check rides along in each WHERE clause
+    String TASK_VIEW_SELECT = "SELECT t.id AS id, t.title AS title, t.description AS description, " +
+            "t.dueDate AS dueDate, t.creationDate AS creationDate, t.updateDate AS updateDate, " +
+            "t.status AS status, p.id AS projectId, p.title AS projectTitle " +
+            "FROM Task t JOIN t.project p ";
+    String OWNED_PROJECT = "WHERE p.id = :projectId AND p.user.id = :userId ";
+
+    @Query(TASK_VIEW_SELECT + OWNED_PROJECT)
+    List<TaskView> findViewsByProjectId(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    @Query(value = TASK_VIEW_SELECT + OWNED_PROJECT,
+            countQuery = "SELECT COUNT(t) FROM Task t JOIN t.project p " + OWNED_PROJECT)
+    Page<TaskView> findViewPageByProjectId(
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId,
+            Pageable pageable
+    );
+
+    // Delta sync across all of a user's projects
+    @Query(TASK_VIEW_SELECT + "WHERE p.user.id = :userId")
+    List<TaskView> findViewsByUserId(@Param("userId") Long userId);
+
+    @Query(TASK_VIEW_SELECT + "WHERE p.user.id = :userId AND t.updateDate > :since")
+    List<TaskView> findViewsModifiedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    // Read row by row for exports; must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(TASK_VIEW_SELECT + OWNED_PROJECT + "ORDER BY t.id ASC")
+    Stream<TaskView> streamViewsByProjectId(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    // Task lookups that also check the project belongs to the user, in one query
+    @Query("SELECT t FROM Task t JOIN FETCH t.project p " +
+            "WHERE t.id = :taskId AND p.id = :projectId AND p.user.id = :userId")
+    Optional<Task> findOwnedTask(
+            @Param("taskId") Long taskId,
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId
+    );
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.project p " +
+            "WHERE t.id IN :taskIds AND p.id = :projectId AND p.user.id = :userId")
+    List<Task> findOwnedTasks(
+            @Param("taskIds") Collection<Long> taskIds,
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId
+    );
+
+    // Completes the tasks that are not completed yet and returns how many it changed, so
+    // concurrent completions of the same task move the project's completed counter once.
+    // Clears the persistence context: tasks loaded before are stale and must not be flushed
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = com.example.project_task_manager.entity.TaskStatus.COMPLETED, " +
+            "t.updateDate = :updatedAt " +
+            "WHERE t.id IN :taskIds " +
+            "AND t.status <> com.example.project_task_manager.entity.TaskStatus.COMPLETED")
+    int markCompleted(@Param("taskIds") Collection<Long> taskIds, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Deletes the project's tasks among taskIds that are still open, or completed, and return
+    // how many rows they removed; the status condition is rechecked on each row, so the
+    // project's counters can follow the rows actually deleted. Clears the persistence context
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id IN :taskIds AND t.project.id = :projectId " +
+            "AND t.status <> com.example.project_task_manager.entity.TaskStatus.COMPLETED")
+    int deleteOpen(@Param("taskIds") Collection<Long> taskIds, @Param("projectId") Long projectId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id IN :taskIds AND t.project.id = :projectId " +
+            "AND t.status = com.example.project_task_manager.entity.TaskStatus.COMPLETED")
+    int deleteCompleted(@Param("taskIds") Collection<Long> taskIds, @Param("projectId") Long projectId);
+
+    // Keyset pages by (creationDate, id) DESC
+    @Query(TASK_VIEW_SELECT + OWNED_PROJECT +
+            "ORDER BY t.creationDate DESC, t.id DESC")
+    List<TaskView> findByProjectIdByCreationDateFirst(
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId,
+            Limit limit
+    );
+
+    @Query(TASK_VIEW_SELECT + OWNED_PROJECT +
+            "AND t.creationDate <= :creationDate " +
+            "AND (t.creationDate < :creationDate OR t.id < :id) " +
+            "ORDER BY t.creationDate DESC, t.id DESC")
+    List<TaskView> findByProjectIdByCreationDateBefore(
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId,
+            @Param("creationDate") LocalDateTime creationDate,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    // Keyset pages by (dueDate, id) ASC; tasks without a due date come last, by id
+    @Query(TASK_VIEW_SELECT + OWNED_PROJECT + "AND t.dueDate IS NOT NULL " +
+            "ORDER BY t.dueDate ASC, t.id ASC")
+    List<TaskView> findByProjectIdByDueDateFirst(
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId,
+            Limit limit
+    );
+
+    @Query(TASK_VIEW_SELECT + OWNED_PROJECT +
+            "AND t.dueDate >= :dueDate " +
+            "AND (t.dueDate > :dueDate OR t.id > :id) " +
+            "ORDER BY t.dueDate ASC, t.id ASC")
+    List<TaskView> findByProjectIdByDueDateAfter(
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId,
+            @Param("dueDate") LocalDate dueDate,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    @Query(TASK_VIEW_SELECT + OWNED_PROJECT + "AND t.dueDate IS NULL " +
+            "AND t.id > :id ORDER BY t.id ASC")
+    List<TaskView> findByProjectIdWithoutDueDateAfter(
+            @Param("projectId") Long projectId,
+            @Param("userId") Long userId,
+            @Param("id") Long id,
+            Limit limit
+    );
 }
@@ -0,0 +1,70 @@
+package com.example.project_task_manager.repository;
+
+import com.example.project_task_manager.dto.TaskFilter;
+import com.example.project_task_manager.entity.Project;
+import com.example.project_task_manager.entity.Task;
+import com.example.project_task_manager.entity.TaskStatus;
+import jakarta.persistence.criteria.Join;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Criteria building blocks for filtered task listings. The predicates are
+ * written against the columns of the composite indexes on {@code tasks}:
+ * project id first, then status, then due date.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> matching(Long projectId, Long userId, TaskFilter filter) {
+        List<Specification<Task>> specs = new ArrayList<>();
+        specs.add(inOwnedProject(projectId, userId));
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            specs.add(hasStatusIn(filter.getStatuses()));
+        }
+        if (filter.getDueFrom() != null) {
+            specs.add(dueOnOrAfter(filter.getDueFrom()));
+        }
+        if (filter.getDueTo() != null) {
+            specs.add(dueOnOrBefore(filter.getDueTo()));
+        }
+        if (filter.getUpdatedSince() != null) {
+            specs.add(updatedAfter(filter.getUpdatedSince()));
+        }
+        return Specification.allOf(specs);
+    }
+
+    // Filters on tasks.project_id directly; the project is joined for the owner check
+    // and, in a TaskView projection, for the project title
+    public static Specification<Task> inOwnedProject(Long projectId, Long userId) {
+        return (root, query, cb) -> {
+            Join<Task, Project> project = root.join("project");
+            return cb.and(
+                    cb.equal(root.get("project").get("id"), projectId),
+                    cb.equal(project.get("user").get("id"), userId));
+        };
+    }
+
+    public static Specification<Task> hasStatusIn(Collection<TaskStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDate from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+    }
+
+    public static Specification<Task> dueOnOrBefore(LocalDate to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), to);
+    }
+
+    public static Specification<Task> updatedAfter(LocalDateTime since) {
+        return (root, query, cb) -> cb.greaterThan(root.get("updateDate"), since);
+    }
+}
@@ -4,14 +4,6 @@ import com.example.project_task_manager.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-
-    // Find a user by email
-    Optional<User> findByEmail(String email);
-
-    // Check if email already exists
-    boolean existsByEmail(String email);
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 }
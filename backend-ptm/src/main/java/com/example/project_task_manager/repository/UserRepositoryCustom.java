@@ -0,0 +1,14 @@
+package com.example.project_task_manager.repository;
+
+import com.example.project_task_manager.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    // Find a user by email, through the natural-id and entity caches
+    Optional<User> findByEmail(String email);
+
+    // Find a user by id to modify it, even if the open session holds it read-only
+    Optional<User> findWritableById(Long id);
+}
@@ -0,0 +1,41 @@
+package com.example.project_task_manager.repository;
+
+import com.example.project_task_manager.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    // A shared proxy resolved on first use: the JWT filter chain pulls this repository in while
+    // the embedded server starts, before an EntityManager bean could be injected by constructor
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // A natural-id load resolves email -> id from the users-by-email region and the
+    // user from the users region; a query would always go to the database
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+
+    // With open-in-view the sign-in's read-only lookup leaves the user read-only in the
+    // session, and changes to a read-only entity are never flushed. Flushing the managed
+    // entity updates only this user's entry in the users region
+    @Override
+    @Transactional
+    public Optional<User> findWritableById(Long id) {
+        Session session = entityManager.unwrap(Session.class);
+        User user = session.find(User.class, id);
+        if (user != null && session.isReadOnly(user)) {
+            session.setReadOnly(user, false);
+        }
+        return Optional.ofNullable(user);
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.project_task_manager.search;
+
+import com.example.project_task_manager.entity.Project;
+import com.example.project_task_manager.notification.ProjectChangeEvent;
+import com.example.project_task_manager.notification.ProjectChangeType;
+import com.example.project_task_manager.projection.TaskView;
+import com.example.project_task_manager.repository.ProjectRepository;
+import com.example.project_task_manager.repository.TaskRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index for databases without full-text search (H2 in
+ * tests). Built at startup and kept current from committed project change
+ * events: a changed project is re-indexed with all of its tasks. All query
+ * terms must match; titles weigh twice as much as descriptions. There is no
+ * stemming, unlike the PostgreSQL backend.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.backend", havingValue = "memory")
+public class InMemorySearchBackend implements SearchBackend {
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final int SNIPPET_LENGTH = 160;
+    private static final int SNIPPET_LEAD = 40;
+
+    private record DocKey(SearchResultType type, long id) {
+    }
+
+    private record Document(DocKey key, long userId, long projectId, String title, String description,
+                            Map<String, Integer> titleTerms, Map<String, Integer> descriptionTerms, int length) {
+    }
+
+    private static final Comparator<SearchHit> ORDER = Comparator
+            .comparing(SearchHit::rank, Comparator.reverseOrder())
+            .thenComparing(SearchHit::type)
+            .thenComparingLong(SearchHit::id);
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<DocKey, Document> documents = new HashMap<>();
+    private final Map<String, Set<DocKey>> postings = new HashMap<>();
+    private final Map<Long, Set<Long>> taskIdsByProject = new HashMap<>();
+
+    public InMemorySearchBackend(
+            ProjectRepository projectRepository,
+            TaskRepository taskRepository,
+            PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexAll() {
+        readTransaction.executeWithoutResult(status ->
+                projectRepository.findAll().forEach(this::indexProject));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProjectChange(ProjectChangeEvent event) {
+        if (event.type() == ProjectChangeType.PROJECT_DELETED) {
+            withWriteLock(() -> removeProject(event.projectId()));
+            return;
+        }
+        readTransaction.executeWithoutResult(status ->
+                projectRepository.findById(event.projectId()).ifPresent(this::indexProject));
+    }
+
+    private void indexProject(Project project) {
+        long userId = project.getUser().getId();
+        List<TaskView> tasks = taskRepository.findViewsByProjectId(project.getId(), userId);
+
+        withWriteLock(() -> {
+            removeProject(project.getId());
+            add(document(new DocKey(SearchResultType.PROJECT, project.getId()), userId, project.getId(),
+                    project.getTitle(), project.getDescription()));
+            Set<Long> taskIds = new HashSet<>();
+            for (TaskView task : tasks) {
+                add(document(new DocKey(SearchResultType.TASK, task.getId()), userId, project.getId(),
+                        task.getTitle(), task.getDescription()));
+                taskIds.add(task.getId());
+            }
+            taskIdsByProject.put(project.getId(), taskIds);
+        });
+    }
+
+    private void removeProject(Long projectId) {
+        remove(new DocKey(SearchResultType.PROJECT, projectId));
+        Set<Long> taskIds = taskIdsByProject.remove(projectId);
+        if (taskIds != null) {
+            taskIds.forEach(taskId -> remove(new DocKey(SearchResultType.TASK, taskId)));
+        }
+    }
+
+    private void add(Document document) {
+        documents.put(document.key(), document);
+        document.titleTerms().keySet().forEach(term -> postings.computeIfAbsent(term, t -> new HashSet<>()).add(document.key()));
+        document.descriptionTerms().keySet().forEach(term -> postings.computeIfAbsent(term, t -> new HashSet<>()).add(document.key()));
+    }
+
+    private void remove(DocKey key) {
+        Document document = documents.remove(key);
+        if (document == null) {
+            return;
+        }
+        Set<String> terms = new HashSet<>(document.titleTerms().keySet());
+        terms.addAll(document.descriptionTerms().keySet());
+        for (String term : terms) {
+            Set<DocKey> keys = postings.get(term);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    @Override
+    public List<SearchHit> search(Long userId, String query, SearchPosition after, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        List<SearchHit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            // Intersect the postings, starting from the rarest term
+            List<Set<DocKey>> lists = new ArrayList<>();
+            for (String term : terms) {
+                Set<DocKey> keys = postings.get(term);
+                if (keys == null) {
+                    return List.of();
+                }
+                lists.add(keys);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            for (DocKey key : lists.getFirst()) {
+                Document document = documents.get(key);
+                if (document.userId() != userId || !lists.stream().allMatch(keys -> keys.contains(key))) {
+                    continue;
+                }
+                SearchHit hit = new SearchHit(key.type(), key.id(), document.projectId(), document.title(),
+                        snippet(document, terms), rank(document, terms));
+                if (after == null || ORDER.compare(hit, positionOf(after)) > 0) {
+                    hits.add(hit);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(ORDER);
+        return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+    }
+
+    private static SearchHit positionOf(SearchPosition position) {
+        return new SearchHit(position.type(), position.id(), 0, null, null, position.rank());
+    }
+
+    private static float rank(Document document, Set<String> terms) {
+        int score = 0;
+        for (String term : terms) {
+            score += 2 * document.titleTerms().getOrDefault(term, 0) + document.descriptionTerms().getOrDefault(term, 0);
+        }
+        return (float) (score / Math.sqrt(document.length()));
+    }
+
+    // A window of the description (or the title) around the first match, matches in <mark>
+    private static String snippet(Document document, Set<String> terms) {
+        String text = document.descriptionTerms().keySet().stream().anyMatch(terms::contains)
+                ? document.description()
+                : document.title();
+        if (text == null) {
+            return null;
+        }
+
+        Matcher matcher = TOKEN.matcher(text);
+        int firstMatch = 0;
+        while (matcher.find()) {
+            if (terms.contains(matcher.group().toLowerCase(Locale.ROOT))) {
+                firstMatch = matcher.start();
+                break;
+            }
+        }
+        int start = Math.max(0, firstMatch - SNIPPET_LEAD);
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append('…');
+        }
+        matcher = TOKEN.matcher(text).region(start, end);
+        int position = start;
+        while (matcher.find()) {
+            snippet.append(HtmlText.escape(text.substring(position, matcher.start())));
+            String token = HtmlText.escape(matcher.group());
+            if (terms.contains(matcher.group().toLowerCase(Locale.ROOT))) {
+                snippet.append("<mark>").append(token).append("</mark>");
+            } else {
+                snippet.append(token);
+            }
+            position = matcher.end();
+        }
+        snippet.append(HtmlText.escape(text.substring(position, end)));
+        if (end < text.length()) {
+            snippet.append('…');
+        }
+        return snippet.toString();
+    }
+
+    private static Document document(DocKey key, long userId, long projectId, String title, String description) {
+        Map<String, Integer> titleTerms = termFrequencies(title);
+        Map<String, Integer> descriptionTerms = termFrequencies(description);
+        int length = titleTerms.values().stream().mapToInt(Integer::intValue).sum()
+                + descriptionTerms.values().stream().mapToInt(Integer::intValue).sum();
+        return new Document(key, userId, projectId, title, description, titleTerms, descriptionTerms, Math.max(1, length));
+    }
+
+    private static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(text).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        return frequencies;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            tokens.add(matcher.group().toLowerCase(Locale.ROOT));
+        }
+        return tokens;
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.project_task_manager.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Search backed by generated {@code tsvector} columns with GIN indexes,
+ * created by the V3 and V4 migrations.
+ * Titles weigh more than descriptions in the rank, and snippets come from
+ * {@code ts_headline}, which only runs for the rows of the returned page.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.backend", havingValue = "postgres", matchIfMissing = true)
+public class PostgresSearchBackend implements SearchBackend {
+
+    private static final String SEARCH_SQL = """
+            WITH q AS (SELECT websearch_to_tsquery('english', :query) AS query)
+            SELECT hit.type, hit.id, hit.project_id, hit.title, hit.rank,
+                   ts_headline('english', hit.document, q.query, :headlineOptions) AS snippet
+            FROM (
+                SELECT * FROM (
+                    SELECT 'PROJECT' AS type, p.id, p.id AS project_id, p.title,
+                           concat_ws(' ', p.title, p.description) AS document,
+                           ts_rank(p.search_vector, q.query) AS rank
+                    FROM projects p, q
+                    WHERE p.user_id = :userId AND p.search_vector @@ q.query
+                    UNION ALL
+                    SELECT 'TASK', t.id, t.project_id, t.title,
+                           concat_ws(' ', t.title, t.description),
+                           ts_rank(t.search_vector, q.query)
+                    FROM tasks t JOIN projects p ON p.id = t.project_id, q
+                    WHERE p.user_id = :userId AND t.search_vector @@ q.query
+                ) ranked
+                WHERE %s
+                ORDER BY ranked.rank DESC, ranked.type ASC, ranked.id ASC
+                LIMIT :limit
+            ) hit, q
+            ORDER BY hit.rank DESC, hit.type ASC, hit.id ASC
+            """;
+
+    private static final String FIRST_PAGE = "TRUE";
+    private static final String AFTER_POSITION = "(ranked.rank < CAST(:rank AS real) " +
+            "OR (ranked.rank = CAST(:rank AS real) AND (ranked.type > :type " +
+            "OR (ranked.type = :type AND ranked.id > :id))))";
+
+    // Control characters as highlight markers, so they survive HTML escaping unambiguously
+    private static final String MARK_START = "\u0002";
+    private static final String MARK_END = "\u0003";
+    private static final String HEADLINE_OPTIONS = "StartSel=" + MARK_START + ", StopSel=" + MARK_END +
+            ", MaxWords=30, MinWords=10, MaxFragments=2";
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public PostgresSearchBackend(NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @Override
+    public List<SearchHit> search(Long userId, String query, SearchPosition after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("headlineOptions", HEADLINE_OPTIONS)
+                .addValue("userId", userId)
+                .addValue("limit", limit);
+        if (after != null) {
+            params.addValue("rank", after.rank())
+                    .addValue("type", after.type().name())
+                    .addValue("id", after.id());
+        }
+
+        String sql = SEARCH_SQL.formatted(after == null ? FIRST_PAGE : AFTER_POSITION);
+        return namedJdbcTemplate.query(sql, params, (rs, rowNum) -> new SearchHit(
+                SearchResultType.valueOf(rs.getString("type")),
+                rs.getLong("id"),
+                rs.getLong("project_id"),
+                rs.getString("title"),
+                highlight(rs.getString("snippet")),
+                rs.getFloat("rank")
+        ));
+    }
+
+    // ts_headline returns the raw text; escape it, then turn the markers into tags
+    static String highlight(String snippet) {
+        if (snippet == null) {
+            return null;
+        }
+        return HtmlText.escape(snippet)
+                .replace(MARK_START, "<mark>")
+                .replace(MARK_END, "</mark>");
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.project_task_manager.search;
+
+import java.util.List;
+
+/**
+ * Full-text search over the titles and descriptions of a user's projects and
+ * tasks. Hits come back in (rank DESC, type, id) order.
+ */
+public interface SearchBackend {
+
+    /**
+     * @param after position of the last hit already returned, or {@code null} for the first page
+     */
+    List<SearchHit> search(Long userId, String query, SearchPosition after, int limit);
+}
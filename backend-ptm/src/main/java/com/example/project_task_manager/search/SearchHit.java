@@ -0,0 +1,8 @@
+package com.example.project_task_manager.search;
+
+/**
+ * One ranked match. The snippet is HTML-escaped text with the matched terms
+ * wrapped in {@code <mark>} tags.
+ */
+public record SearchHit(SearchResultType type, long id, long projectId, String title, String snippet, float rank) {
+}
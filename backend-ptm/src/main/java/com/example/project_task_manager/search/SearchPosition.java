@@ -0,0 +1,7 @@
+package com.example.project_task_manager.search;
+
+/**
+ * Last hit of a page in (rank DESC, type, id) order; the next page starts strictly after it.
+ */
+public record SearchPosition(float rank, SearchResultType type, long id) {
+}
@@ -0,0 +1,7 @@
+package com.example.project_task_manager.search;
+
+// Declared in alphabetical order: ties on rank are broken by type name, then id
+public enum SearchResultType {
+    PROJECT,
+    TASK
+}
@@ -0,0 +1,19 @@
+package com.example.project_task_manager.security;
+
+import com.example.project_task_manager.entity.User;
+import lombok.Value;
+
+/**
+ * Lightweight principal built from the JWT claims, so authenticated
+ * requests do not have to load the {@link User} entity.
+ */
+@Value
+public class AuthenticatedUser {
+    Long id;
+    String email;
+    String name;
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getName());
+    }
+}
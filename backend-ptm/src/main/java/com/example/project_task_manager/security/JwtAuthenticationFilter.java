@@ -1,27 +1,44 @@
 package com.example.project_task_manager.security;
 
+import com.example.project_task_manager.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final Timer verifyTimer;
+
+    // Build the principal from the token claims instead of loading the user
+    @Value("${jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
+
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   UserDetailsServiceImpl userDetailsService,
+                                   MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        // Includes hits on the verified-token cache, which is most requests
+        this.verifyTimer = Timer.builder("app.jwt.verify")
+                .description("Time to verify the bearer token of a request")
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -37,7 +54,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userEmail;
+        final JwtClaims claims;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
@@ -45,16 +62,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        // Parsed and signature-checked once; the claims are reused below
+        claims = verifyTimer.record(() -> jwtService.verify(jwt));
 
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+        if (claims.subject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            AuthenticatedUser principal = resolvePrincipal(claims);
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (principal != null) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
+                        principal,
                         null,
-                        userDetails.getAuthorities()
+                        Collections.emptyList()
                 );
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -63,4 +81,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private AuthenticatedUser resolvePrincipal(JwtClaims claims) {
+        if (statelessPrincipal && claims.hasPrincipal()) {
+            return claims.isExpired() ? null : claims.toPrincipal();
+        }
+
+        // Tokens issued without the principal claims, or stateless mode disabled
+        User user = (User) userDetailsService.loadUserByUsername(claims.subject());
+        return jwtService.isTokenValid(claims, user) ? AuthenticatedUser.from(user) : null;
+    }
+
 }
@@ -0,0 +1,27 @@
+package com.example.project_task_manager.security;
+
+import java.time.Instant;
+
+/**
+ * The claims of a verified token that the application actually reads.
+ * {@code userId} and {@code name} are absent on tokens issued before they
+ * were added.
+ */
+public record JwtClaims(String subject, Long userId, String name, Instant expiration) {
+
+    public boolean isExpired() {
+        return isExpired(Instant.now());
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiration != null && expiration.isBefore(now);
+    }
+
+    public boolean hasPrincipal() {
+        return subject != null && userId != null && name != null;
+    }
+
+    public AuthenticatedUser toPrincipal() {
+        return new AuthenticatedUser(userId, subject, name);
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.project_task_manager.security;
 
+import com.example.project_task_manager.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -18,14 +21,34 @@ import java.util.function.Function;
 @Service
 public class JwtService {
 
+    static final String USER_ID_CLAIM = "uid";
+    static final String NAME_CLAIM = "name";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheSize;
+
+    // Built once: decoding the secret and building the parser are not free
+    private Key signInKey;
+    private JwtParser jwtParser;
+    private VerifiedTokenCache verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheSize);
+    }
+
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -34,7 +57,13 @@ public class JwtService {
     }
 
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+        // Lets the authentication filter build the principal without a user lookup
+        if (userDetails instanceof User user) {
+            claims.put(USER_ID_CLAIM, user.getId());
+            claims.put(NAME_CLAIM, user.getName());
+        }
+        return generateToken(claims, userDetails);
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
@@ -48,34 +77,49 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    /**
+     * Parses and verifies the token at most once, returning the claims the
+     * application needs. Recently verified tokens are served from cache
+     * without re-checking the signature.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, badly
+     *                                      signed or expired
+     */
+    public JwtClaims verify(String token) {
+        JwtClaims cached = verifiedTokens.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = extractAllClaims(token);
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        JwtClaims verified = new JwtClaims(
+                claims.getSubject(),
+                userId != null ? userId.longValue() : null,
+                claims.get(NAME_CLAIM, String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+        verifiedTokens.put(token, verified);
+        return verified;
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return isTokenValid(verify(token), userDetails);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenValid(JwtClaims claims, UserDetails userDetails) {
+        return claims.subject() != null
+                && claims.subject().equals(userDetails.getUsername())
+                && !claims.isExpired();
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
-
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
@@ -0,0 +1,49 @@
+package com.example.project_task_manager.security;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the password encoder for the configured algorithm and work factor.
+ * New hashes are stored with an {id} prefix. Hashes from before the prefix
+ * are plain BCrypt and still match. A hash in another algorithm, or with a
+ * lower work factor than configured, reports upgradeEncoding, so it is
+ * rewritten at the user's next sign-in.
+ */
+public final class PasswordEncoders {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+
+    private PasswordEncoders() {
+    }
+
+    public static PasswordEncoder delegating(String algorithm, int bcryptStrength,
+                                             int argon2MemoryKib, int argon2Iterations, int argon2Parallelism) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(ARGON2, argon2(argon2MemoryKib, argon2Iterations, argon2Parallelism));
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalArgumentException("Unknown password hashing algorithm: " + algorithm);
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        // Hashes stored before the {id} prefix was introduced
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    // Argon2id; needs BouncyCastle on the classpath
+    public static Argon2PasswordEncoder argon2(int memoryKib, int iterations, int parallelism) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, parallelism, memoryKib, iterations);
+    }
+}
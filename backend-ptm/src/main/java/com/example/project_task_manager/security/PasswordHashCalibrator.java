@@ -0,0 +1,96 @@
+package com.example.project_task_manager.security;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Picks the password hashing work factor for a target verification time on
+ * the machine it runs on. Run it on the production hardware:
+ * <pre>
+ * java -cp app.jar -Dloader.main=com.example.project_task_manager.security.PasswordHashCalibrator \
+ *      org.springframework.boot.loader.launch.PropertiesLauncher 250ms [argon2-memory-kib]
+ * </pre>
+ * It prints the strongest setting for each algorithm that still verifies
+ * within the target, as properties to paste into the configuration.
+ */
+public final class PasswordHashCalibrator {
+
+    private static final int MIN_BCRYPT_STRENGTH = 4;
+    private static final int MAX_BCRYPT_STRENGTH = 31;
+    private static final int MAX_ARGON2_ITERATIONS = 100;
+    private static final int DEFAULT_ARGON2_MEMORY_KIB = 19_456;
+    private static final int SAMPLES = 5;
+    private static final String PASSWORD = "calibration-password";
+
+    private PasswordHashCalibrator() {
+    }
+
+    public static void main(String[] args) {
+        Duration target = args.length > 0 ? DurationStyle.detectAndParse(args[0]) : Duration.ofMillis(250);
+        int argon2MemoryKib = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ARGON2_MEMORY_KIB;
+        int hashingThreads = BoundedPasswordEncoder.defaultThreads();
+
+        System.out.printf("Target verification time %d ms, %d hashing threads%n%n", target.toMillis(), hashingThreads);
+
+        int strength = bcryptStrength(target);
+        Duration bcryptTime = medianMatchTime(new BCryptPasswordEncoder(strength));
+        System.out.printf("bcrypt strength %d: %d ms, about %d sign-ins/s%n",
+                strength, bcryptTime.toMillis(), signInsPerSecond(bcryptTime, hashingThreads));
+        System.out.printf("  app.security.password.algorithm=bcrypt%n  app.security.password.bcrypt.strength=%d%n%n",
+                strength);
+
+        int iterations = argon2Iterations(target, argon2MemoryKib, 1);
+        Duration argon2Time = medianMatchTime(PasswordEncoders.argon2(argon2MemoryKib, iterations, 1));
+        System.out.printf("argon2id %d iterations at %d KiB: %d ms, about %d sign-ins/s%n",
+                iterations, argon2MemoryKib, argon2Time.toMillis(), signInsPerSecond(argon2Time, hashingThreads));
+        System.out.printf("  app.security.password.algorithm=argon2%n  app.security.password.argon2.memory-kib=%d%n"
+                + "  app.security.password.argon2.iterations=%d%n", argon2MemoryKib, iterations);
+    }
+
+    // The highest strength that verifies within the target; each step doubles the cost
+    public static int bcryptStrength(Duration target) {
+        int best = MIN_BCRYPT_STRENGTH;
+        for (int strength = MIN_BCRYPT_STRENGTH; strength <= MAX_BCRYPT_STRENGTH; strength++) {
+            if (medianMatchTime(new BCryptPasswordEncoder(strength)).compareTo(target) > 0) {
+                break;
+            }
+            best = strength;
+        }
+        return best;
+    }
+
+    // The most iterations that verify within the target at a fixed memory cost; the cost grows linearly
+    public static int argon2Iterations(Duration target, int memoryKib, int parallelism) {
+        int best = 1;
+        for (int iterations = 1; iterations <= MAX_ARGON2_ITERATIONS; iterations++) {
+            if (medianMatchTime(PasswordEncoders.argon2(memoryKib, iterations, parallelism)).compareTo(target) > 0) {
+                break;
+            }
+            best = iterations;
+        }
+        return best;
+    }
+
+    static Duration medianMatchTime(PasswordEncoder encoder) {
+        String hash = encoder.encode(PASSWORD);
+        // Once unmeasured, so class loading and the first JIT pass are not in the samples
+        encoder.matches(PASSWORD, hash);
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.matches(PASSWORD, hash);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return Duration.ofNanos(samples[SAMPLES / 2]);
+    }
+
+    private static long signInsPerSecond(Duration verification, int threads) {
+        return Math.round(threads * 1000.0 / Math.max(1, verification.toMillis()));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.project_task_manager.security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the password hashing queue is full. MVC turns it into a 503
+ * with a Retry-After header.
+ */
+public class PasswordHashingBusyException extends ResponseStatusException {
+
+    private final HttpHeaders headers = new HttpHeaders();
+
+    public PasswordHashingBusyException(Duration retryAfter) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "Too many sign-ins in progress, retry shortly");
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+}
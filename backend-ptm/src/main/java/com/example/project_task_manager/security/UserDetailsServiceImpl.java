@@ -1,23 +1,41 @@
 package com.example.project_task_manager.security;
 
+import com.example.project_task_manager.entity.User;
 import com.example.project_task_manager.repository.UserRepository;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
     @Override
     @NonNull
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        // Served from the second-level cache after the first lookup
         return userRepository.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
+
+    // Called after a successful sign-in whose hash is in an older algorithm or work factor
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Long id = user instanceof User entity
+                ? entity.getId()
+                : ((User) loadUserByUsername(user.getUsername())).getId();
+        User managed = userRepository.findWritableById(id)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        // Dirty checking writes the one row and refreshes only this user's cache entry
+        managed.setPassword(newPassword);
+        return managed;
+    }
 }
@@ -0,0 +1,48 @@
+package com.example.project_task_manager.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Bounded cache of tokens whose signature has already been checked, keyed
+ * by the token itself. Each entry expires with its token, so a hit never
+ * outlives the token it stands for. A size of zero turns this off.
+ */
+public class VerifiedTokenCache {
+
+    private final Cache<String, JwtClaims> entries;
+
+    public VerifiedTokenCache(int maxSize) {
+        this.entries = maxSize <= 0 ? null : Caffeine.newBuilder()
+                .expireAfter(Expiry.<String, JwtClaims>creating((token, claims) -> timeToLive(claims)))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public JwtClaims get(String token) {
+        return entries != null ? entries.getIfPresent(token) : null;
+    }
+
+    public void put(String token, JwtClaims claims) {
+        if (entries != null && claims.expiration() != null) {
+            entries.put(token, claims);
+        }
+    }
+
+    public long size() {
+        if (entries == null) {
+            return 0;
+        }
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    private static Duration timeToLive(JwtClaims claims) {
+        Duration untilExpiry = Duration.between(Instant.now(), claims.expiration());
+        return untilExpiry.isNegative() ? Duration.ZERO : untilExpiry;
+    }
+}
@@ -8,8 +8,12 @@ import com.example.project_task_manager.entity.User;
 import com.example.project_task_manager.repository.UserRepository;
 import com.example.project_task_manager.security.JwtService;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -17,25 +21,32 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
 
     public AuthResponse register(RegisterRequest request) {
-        if (userRepository.existsByEmail(request.getEmail())) {
-            return AuthResponse.builder()
-                    .message("Email already exists")
-                    .build();
-        }
-
         User user = User.builder()
                 .name(request.getName())
                 .email(request.getEmail())
                 .password(passwordEncoder.encode(request.getPassword()))
                 .build();
 
-        User savedUser = userRepository.save(user);
+        // One INSERT; the unique email index decides, so two concurrent sign-ups cannot both pass a check
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (!isUniqueViolation(e)) {
+                throw e;
+            }
+            return AuthResponse.builder()
+                    .message("Email already exists")
+                    .build();
+        }
 
         String jwtToken = jwtService.generateToken(savedUser);
 
@@ -53,15 +64,17 @@ public class AuthService {
 
 
     public AuthResponse login(AuthRequest request) {
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getEmail(),
                         request.getPassword()
                 )
         );
 
-        var user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow();
+        // The provider already loaded the user to check the password; no second lookup
+        if (!(authentication.getPrincipal() instanceof User user)) {
+            throw new IllegalStateException("Unexpected principal type");
+        }
         var jwtToken = jwtService.generateToken(user);
 
         UserDTO userDTO = new UserDTO();
@@ -75,4 +88,18 @@ public class AuthService {
                 .message("Login successful")
                 .build();
     }
+
+    // Email is the only unique column users can collide on (the id is generated). Not every
+    // dialect classifies the violation (H2 reports an unnamed index as OTHER), but every
+    // database reports SQLState 23505 for it; other unclassified violations propagate
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        if (!(e.getCause() instanceof ConstraintViolationException violation)) {
+            return false;
+        }
+        return UNIQUE_VIOLATION_SQL_STATE.equals(violation.getSQLState())
+                || violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+    }
 }
@@ -1,14 +1,25 @@
 package com.example.project_task_manager.service;
 
 import com.example.project_task_manager.mapper.ProjectMapper;
+import com.example.project_task_manager.notification.ProjectChangeEvent;
+import com.example.project_task_manager.notification.ProjectChangeType;
+import com.example.project_task_manager.repository.DeletedRecordRepository;
 import com.example.project_task_manager.repository.ProjectRepository;
+import com.example.project_task_manager.repository.UserRepository;
 
+import com.example.project_task_manager.dto.CursorPage;
 import com.example.project_task_manager.dto.ProjectRequest;
 import com.example.project_task_manager.dto.ProjectResponse;
 import com.example.project_task_manager.dto.ProjectSummaryResponse;
+import com.example.project_task_manager.entity.DeletedRecord;
 import com.example.project_task_manager.entity.Project;
 import com.example.project_task_manager.entity.User;
+import com.example.project_task_manager.pagination.KeysetCursor;
+import com.example.project_task_manager.security.AuthenticatedUser;
+import com.example.project_task_manager.projection.ProjectSummaryView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -24,10 +35,19 @@ import java.util.stream.Collectors;
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final DeletedRecordRepository deletedRecordRepository;
     private final ProjectMapper projectMapper;
+    private final RecentProjectsService recentProjectsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public ProjectResponse createProject(ProjectRequest request, User user) {
+    public ProjectResponse createProject(ProjectRequest request, AuthenticatedUser owner) {
+        Long userId = owner.getId();
+        // A reference is enough for the insert, and the owner fields of the response come from
+        // the principal, so the user is never loaded
+        User user = userRepository.getReferenceById(userId);
+
         Project project = Project.builder()
                 .title(request.getTitle())
                 .description(request.getDescription())
@@ -36,13 +56,13 @@ public class ProjectService {
                 .build();
 
         Project savedProject = projectRepository.save(project);
-        return projectMapper.toResponse(savedProject);
+        eventPublisher.publishEvent(new ProjectChangeEvent(userId, savedProject.getId(), ProjectChangeType.PROJECT_CREATED));
+        return projectMapper.toResponse(savedProject, owner.getName(), owner.getEmail());
     }
 
     @Transactional(readOnly = true)
     public List<ProjectSummaryResponse> getAllUserProjects(Long userId) {
-        List<Project> projects = projectRepository.findByUserId(userId);
-        return projects.stream()
+        return projectRepository.findSummariesByUserId(userId).stream()
                 .map(projectMapper::toSummaryResponse)
                 .collect(Collectors.toList());
     }
@@ -53,13 +73,38 @@ public class ProjectService {
             Pageable pageable
     ) {
         return projectRepository
-                .findPageByUserId(userId, pageable)
+                .findSummaryPageByUserId(userId, pageable)
                 .map(projectMapper::toSummaryResponse);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectSummaryResponse> getUserProjectsSlice(Long userId, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        // One extra row tells whether there is a next slice, without a count query
+        Limit limit = Limit.of(size + 1);
+
+        List<ProjectSummaryView> rows = position == null
+                ? projectRepository.findSummariesByUserIdFirst(userId, limit)
+                : projectRepository.findSummariesByUserIdBefore(
+                        userId, position.keyAsDateTime(), position.id(), limit);
+
+        boolean hasNext = rows.size() > size;
+        List<ProjectSummaryView> slice = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ProjectSummaryView last = slice.getLast();
+            nextCursor = KeysetCursor.of(last.getLastModifiedDate(), last.getId()).encode();
+        }
+
+        List<ProjectSummaryResponse> content = slice.stream()
+                .map(projectMapper::toSummaryResponse)
+                .collect(Collectors.toList());
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
     @Transactional(readOnly = true)
     public ProjectResponse getProjectById(Long projectId, Long userId) {
-        Project project = projectRepository.findByIdAndUserId(projectId, userId)
+        Project project = projectRepository.findWithOwnerByIdAndUserId(projectId, userId)
                 .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
         return projectMapper.toResponse(project);
     }
@@ -71,8 +116,10 @@ public class ProjectService {
 
         project.setTitle(request.getTitle());
         project.setDescription(request.getDescription());
+        project.updateLastModifiedDate();
 
         Project updatedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangeEvent(userId, projectId, ProjectChangeType.PROJECT_UPDATED));
         return projectMapper.toResponse(updatedProject);
     }
 
@@ -81,16 +128,12 @@ public class ProjectService {
         Project project = projectRepository.findByIdAndUserId(projectId, userId)
                 .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
         projectRepository.delete(project);
+        // One tombstone for the project; sync clients drop its tasks with it
+        deletedRecordRepository.save(DeletedRecord.project(projectId, userId, LocalDateTime.now()));
+        eventPublisher.publishEvent(new ProjectChangeEvent(userId, projectId, ProjectChangeType.PROJECT_DELETED));
     }
 
-    @Transactional(readOnly = true)
     public List<ProjectSummaryResponse> getRecentlyModifiedProjects(Long userId) {
-        LocalDateTime twentyFourHoursAgo = LocalDateTime.now().minusHours(24);
-        List<Project> projects = projectRepository.findRecentlyModifiedProjects(userId, twentyFourHoursAgo);
-
-        return projects.stream()
-                .limit(5)
-                .map(projectMapper::toSummaryResponse)
-                .collect(Collectors.toList());
+        return recentProjectsService.getRecentProjects(userId);
     }
 }
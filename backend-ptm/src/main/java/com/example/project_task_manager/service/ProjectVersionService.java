@@ -0,0 +1,35 @@
+package com.example.project_task_manager.service;
+
+import com.example.project_task_manager.projection.ProjectListVersion;
+import com.example.project_task_manager.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Builds ETags for project and task reads from Project.lastModifiedDate,
+ * which every project and task mutation bumps.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectVersionService {
+
+    private final ProjectRepository projectRepository;
+
+    // Empty when the project does not exist or is not the user's; the normal read then reports it
+    @Transactional(readOnly = true)
+    public Optional<String> getProjectEtag(Long projectId, Long userId) {
+        return projectRepository.findLastModifiedDate(projectId, userId)
+                .map(lastModified -> "\"p" + projectId + "-" + lastModified + "\"");
+    }
+
+    @Transactional(readOnly = true)
+    public String getProjectListEtag(Long userId) {
+        ProjectListVersion version = projectRepository.findListVersion(userId);
+        LocalDateTime lastModified = version.getLastModifiedDate();
+        return "\"u" + userId + "-" + version.getProjectCount() + "-" + (lastModified == null ? "0" : lastModified) + "\"";
+    }
+}
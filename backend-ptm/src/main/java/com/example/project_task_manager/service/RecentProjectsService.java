@@ -0,0 +1,104 @@
+package com.example.project_task_manager.service;
+
+import com.example.project_task_manager.dto.ProjectSummaryResponse;
+import com.example.project_task_manager.mapper.ProjectMapper;
+import com.example.project_task_manager.notification.ProjectChangeEvent;
+import com.example.project_task_manager.projection.ProjectSummaryView;
+import com.example.project_task_manager.repository.ProjectRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A user's most recently modified projects within a time window. The last
+ * result is kept per user, so repeated polls run no query and take no
+ * connection: the read-only transaction is only opened to load. An entry is
+ * dropped when one of the user's projects changes (after commit), when its
+ * oldest project leaves the window, or after the TTL. The TTL bounds
+ * staleness for changes made on another instance.
+ */
+@Service
+public class RecentProjectsService {
+
+    private record Entry(List<ProjectSummaryResponse> projects, LocalDateTime expiresAt) {
+    }
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMapper projectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration window;
+    private final int limit;
+    private final boolean cacheEnabled;
+    private final Cache<Long, Entry> entriesByUser;
+
+    public RecentProjectsService(
+            ProjectRepository projectRepository,
+            ProjectMapper projectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.projects.recent.window:24h}") Duration window,
+            @Value("${app.projects.recent.limit:5}") int limit,
+            @Value("${app.projects.recent.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${app.projects.recent.cache.ttl:1m}") Duration cacheTtl,
+            @Value("${app.projects.recent.cache.max-size:10000}") long cacheMaxSize) {
+        this.projectRepository = projectRepository;
+        this.projectMapper = projectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.window = window;
+        this.limit = limit;
+        this.cacheEnabled = cacheEnabled;
+        // An entry lives for the TTL, or until its oldest project leaves the window if that comes first
+        this.entriesByUser = Caffeine.newBuilder()
+                .expireAfter(Expiry.<Long, Entry>creating((userId, entry) -> timeToLive(entry, cacheTtl)))
+                .maximumSize(cacheMaxSize)
+                .build();
+    }
+
+    public List<ProjectSummaryResponse> getRecentProjects(Long userId) {
+        if (!cacheEnabled) {
+            return load(userId).projects();
+        }
+        // An invalidation that races with a load waits for it and then drops its result
+        return entriesByUser.get(userId, this::load).projects();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProjectChange(ProjectChangeEvent event) {
+        entriesByUser.invalidate(event.userId());
+    }
+
+    private Entry load(Long userId) {
+        LocalDateTime since = LocalDateTime.now().minus(window);
+        List<ProjectSummaryView> views = readOnlyTransaction.execute(status ->
+                projectRepository.findRecentSummaries(userId, since, Limit.of(limit)));
+
+        // Until the oldest listed project ages out, the list only changes through an edit
+        LocalDateTime expiresAt = views.isEmpty()
+                ? LocalDateTime.MAX
+                : views.getLast().getLastModifiedDate().plus(window);
+        List<ProjectSummaryResponse> projects = views.stream()
+                .map(projectMapper::toSummaryResponse)
+                .collect(Collectors.toList());
+        return new Entry(projects, expiresAt);
+    }
+
+    private static Duration timeToLive(Entry entry, Duration ttl) {
+        Duration untilWindowEdge = Duration.between(LocalDateTime.now(), entry.expiresAt());
+        if (untilWindowEdge.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilWindowEdge.compareTo(ttl) < 0 ? untilWindowEdge : ttl;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.project_task_manager.service;
+
+import com.example.project_task_manager.dto.CursorPage;
+import com.example.project_task_manager.dto.SearchResultResponse;
+import com.example.project_task_manager.pagination.KeysetCursor;
+import com.example.project_task_manager.search.SearchBackend;
+import com.example.project_task_manager.search.SearchHit;
+import com.example.project_task_manager.search.SearchPosition;
+import com.example.project_task_manager.search.SearchResultType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    static final int MAX_QUERY_LENGTH = 200;
+
+    private final SearchBackend searchBackend;
+
+    @Transactional(readOnly = true)
+    public CursorPage<SearchResultResponse> search(Long userId, String query, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            return new CursorPage<>(List.of(), null, false);
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query is too long");
+        }
+
+        // One extra hit tells whether there is a next page
+        List<SearchHit> hits = searchBackend.search(userId, query.strip(), decodePosition(cursor), size + 1);
+
+        boolean hasNext = hits.size() > size;
+        List<SearchHit> page = hasNext ? hits.subList(0, size) : hits;
+        String nextCursor = null;
+        if (hasNext) {
+            SearchHit last = page.getLast();
+            // Float.toString round-trips exactly, so the next page resumes at the same rank
+            nextCursor = KeysetCursor.of(last.type() + ":" + last.rank(), last.id()).encode();
+        }
+
+        List<SearchResultResponse> content = page.stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    private SearchPosition decodePosition(String cursor) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        if (position == null) {
+            return null;
+        }
+        String key = position.key();
+        int separator = key != null ? key.indexOf(':') : -1;
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        try {
+            SearchResultType type = SearchResultType.valueOf(key.substring(0, separator));
+            float rank = Float.parseFloat(key.substring(separator + 1));
+            return new SearchPosition(rank, type, position.id());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private SearchResultResponse toResponse(SearchHit hit) {
+        return SearchResultResponse.builder()
+                .type(hit.type())
+                .id(hit.id())
+                .projectId(hit.projectId())
+                .title(hit.title())
+                .snippet(hit.snippet())
+                .rank(hit.rank())
+                .build();
+    }
+}
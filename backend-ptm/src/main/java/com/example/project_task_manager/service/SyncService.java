@@ -0,0 +1,98 @@
+package com.example.project_task_manager.service;
+
+import com.example.project_task_manager.dto.DeletedRecordResponse;
+import com.example.project_task_manager.dto.SyncResponse;
+import com.example.project_task_manager.mapper.ProjectMapper;
+import com.example.project_task_manager.mapper.TaskMapper;
+import com.example.project_task_manager.pagination.SyncToken;
+import com.example.project_task_manager.repository.DeletedRecordRepository;
+import com.example.project_task_manager.repository.ProjectRepository;
+import com.example.project_task_manager.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Delta sync: everything of a user that changed after the client's token,
+ * plus tombstones for what was deleted. Without a token, or with one older
+ * than the tombstone retention, the full state is returned instead.
+ */
+@Service
+public class SyncService {
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final DeletedRecordRepository deletedRecordRepository;
+    private final ProjectMapper projectMapper;
+    private final TaskMapper taskMapper;
+    private final Duration overlap;
+    private final Duration tombstoneRetention;
+
+    public SyncService(
+            ProjectRepository projectRepository,
+            TaskRepository taskRepository,
+            DeletedRecordRepository deletedRecordRepository,
+            ProjectMapper projectMapper,
+            TaskMapper taskMapper,
+            @Value("${app.sync.overlap:5s}") Duration overlap,
+            @Value("${app.sync.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.deletedRecordRepository = deletedRecordRepository;
+        this.projectMapper = projectMapper;
+        this.taskMapper = taskMapper;
+        this.overlap = overlap;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    // Not read-only, so it runs on the primary. The token is this node's clock, and a replica can
+    // be up to max-lag plus a lag-check interval behind before it is dropped, longer than the
+    // overlap: rows and tombstones committed in that gap would never reach the client
+    @Transactional
+    public SyncResponse sync(Long userId, String token) {
+        // Taken before reading, so anything committed later is picked up by the next sync
+        LocalDateTime now = LocalDateTime.now();
+        String nextToken = new SyncToken(now).encode();
+
+        SyncToken previous = SyncToken.decode(token);
+        if (previous == null || previous.syncedAt().isBefore(now.minus(tombstoneRetention))) {
+            return SyncResponse.builder()
+                    .projects(projectRepository.findSummariesByUserId(userId).stream()
+                            .map(projectMapper::toSummaryResponse)
+                            .collect(Collectors.toList()))
+                    .tasks(taskRepository.findViewsByUserId(userId).stream()
+                            .map(taskMapper::toResponse)
+                            .collect(Collectors.toList()))
+                    .deleted(List.of())
+                    .token(nextToken)
+                    .fullResync(true)
+                    .build();
+        }
+
+        // Rows stamped just before the previous sync may have committed after it read;
+        // re-sending them is harmless since clients apply changes as upserts
+        LocalDateTime since = previous.syncedAt().minus(overlap);
+        List<DeletedRecordResponse> deleted = deletedRecordRepository
+                .findByUserIdAndDeletedAtAfterOrderByDeletedAtAsc(userId, since).stream()
+                .map(record -> new DeletedRecordResponse(
+                        record.getEntityType(), record.getEntityId(), record.getProjectId(), record.getDeletedAt()))
+                .collect(Collectors.toList());
+
+        return SyncResponse.builder()
+                .projects(projectRepository.findSummariesModifiedSince(userId, since).stream()
+                        .map(projectMapper::toSummaryResponse)
+                        .collect(Collectors.toList()))
+                .tasks(taskRepository.findViewsModifiedSince(userId, since).stream()
+                        .map(taskMapper::toResponse)
+                        .collect(Collectors.toList()))
+                .deleted(deleted)
+                .token(nextToken)
+                .fullResync(false)
+                .build();
+    }
+}
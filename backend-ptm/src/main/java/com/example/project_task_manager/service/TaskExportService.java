@@ -0,0 +1,95 @@
+package com.example.project_task_manager.service;
+
+import com.example.project_task_manager.mapper.TaskMapper;
+import com.example.project_task_manager.projection.TaskView;
+import com.example.project_task_manager.repository.ProjectRepository;
+import com.example.project_task_manager.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes all tasks of a project to an output stream one row at a time, so
+ * memory use does not depend on the size of the project.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    private static final String CSV_HEADER = "id,title,description,dueDate,creationDate,updateDate,status";
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskMapper taskMapper;
+    private final JsonMapper jsonMapper;
+
+    // Called before the response is committed, so a foreign project still gets a proper error
+    @Transactional(readOnly = true)
+    public void checkProjectAccess(Long projectId, Long userId) {
+        if (!projectRepository.existsByIdAndUserId(projectId, userId)) {
+            throw new RuntimeException("Project not found or access denied");
+        }
+    }
+
+    // Rows are read-only projections, so the persistence context stays empty however many are read
+    @Transactional(readOnly = true)
+    public void export(Long projectId, Long userId, TaskFileFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == TaskFileFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<TaskView> tasks = taskRepository.streamViewsByProjectId(projectId, userId)) {
+            Iterator<TaskView> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                TaskView task = iterator.next();
+                if (format == TaskFileFormat.CSV) {
+                    writeCsvRow(writer, task);
+                } else {
+                    writer.write(jsonMapper.writeValueAsString(taskMapper.toResponse(task)));
+                }
+                writer.write('\n');
+            }
+        }
+        // The container owns the stream; flush without closing it
+        writer.flush();
+    }
+
+    private static void writeCsvRow(Writer writer, TaskView task) throws IOException {
+        writer.write(String.valueOf(task.getId()));
+        writer.write(',');
+        writer.write(csvField(task.getTitle()));
+        writer.write(',');
+        writer.write(csvField(task.getDescription()));
+        writer.write(',');
+        writer.write(csvField(task.getDueDate()));
+        writer.write(',');
+        writer.write(csvField(task.getCreationDate()));
+        writer.write(',');
+        writer.write(csvField(task.getUpdateDate()));
+        writer.write(',');
+        writer.write(csvField(task.getStatus()));
+    }
+
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
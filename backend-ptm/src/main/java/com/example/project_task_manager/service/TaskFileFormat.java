@@ -0,0 +1,37 @@
+package com.example.project_task_manager.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+/**
+ * File formats accepted by the task import and produced by the task export.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskFileFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static TaskFileFormat from(String value) {
+        for (TaskFileFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported file format: " + value);
+    }
+
+    public static TaskFileFormat fromContentType(String contentType) {
+        MediaType type = MediaType.parseMediaType(contentType);
+        for (TaskFileFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(type)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported content type: " + contentType);
+    }
+}
@@ -0,0 +1,304 @@
+package com.example.project_task_manager.service;
+
+import com.example.project_task_manager.dto.TaskImportError;
+import com.example.project_task_manager.dto.TaskImportReport;
+import com.example.project_task_manager.dto.TaskRequest;
+import com.example.project_task_manager.entity.Project;
+import com.example.project_task_manager.entity.Task;
+import com.example.project_task_manager.entity.TaskStatus;
+import com.example.project_task_manager.notification.ProjectChangeEvent;
+import com.example.project_task_manager.repository.ProjectRepository;
+import com.example.project_task_manager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports tasks from a CSV or NDJSON upload. The body is read one row at a
+ * time, valid rows are inserted in chunks of a fixed size, each chunk in its
+ * own transaction, so memory is bounded by the chunk size and not the file.
+ * Rows are numbered from 1, not counting the CSV header or blank lines.
+ */
+@Slf4j
+@Service
+public class TaskImportService {
+
+    private static final int MAX_ROW_LENGTH = 64 * 1024;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public TaskImportService(
+            TaskRepository taskRepository,
+            ProjectRepository projectRepository,
+            EntityManager entityManager,
+            Validator validator,
+            JsonMapper jsonMapper,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.tasks.import.chunk-size:500}") int chunkSize,
+            @Value("${app.tasks.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.jsonMapper = jsonMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public TaskImportReport importTasks(Long projectId, Long userId, TaskFileFormat format, InputStream in)
+            throws IOException {
+        if (!projectRepository.existsByIdAndUserId(projectId, userId)) {
+            throw new RuntimeException("Project not found or access denied");
+        }
+
+        Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        RowSource rows = format == TaskFileFormat.CSV ? csvRows(reader) : ndjsonRows(reader);
+        ImportRun run = new ImportRun(projectId, userId);
+
+        long rowNumber = 0;
+        while (true) {
+            ParsedRow row;
+            try {
+                row = rows.next();
+            } catch (IllegalArgumentException e) {
+                // The reader cannot resynchronise after a malformed record, stop here
+                run.reject(rowNumber + 1, e.getMessage());
+                break;
+            }
+            if (row == null) {
+                break;
+            }
+            rowNumber++;
+
+            if (row.error() != null) {
+                run.reject(rowNumber, row.error());
+                continue;
+            }
+            Set<ConstraintViolation<TaskRequest>> violations = validator.validate(row.request());
+            if (!violations.isEmpty()) {
+                run.reject(rowNumber, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+            run.accept(rowNumber, row.request());
+        }
+        run.flush();
+
+        return run.report();
+    }
+
+    // ---- Row sources ----
+
+    private record ParsedRow(TaskRequest request, String error) {
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        ParsedRow next() throws IOException;
+    }
+
+    private RowSource ndjsonRows(Reader reader) {
+        StringBuilder line = new StringBuilder();
+        return () -> {
+            String json;
+            do {
+                json = readLine(reader, line);
+                if (json == null) {
+                    return null;
+                }
+            } while (json.isBlank());
+
+            try {
+                return new ParsedRow(jsonMapper.readValue(json, TaskRequest.class), null);
+            } catch (JacksonException e) {
+                return new ParsedRow(null, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    private RowSource csvRows(Reader reader) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader, MAX_ROW_LENGTH);
+        List<String> header = csv.next();
+        if (header == null) {
+            return () -> null;
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("title")) {
+            throw new IllegalArgumentException("CSV header must contain a title column");
+        }
+
+        return () -> {
+            List<String> fields;
+            do {
+                fields = csv.next();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.getFirst().isBlank());
+
+            try {
+                TaskRequest request = new TaskRequest();
+                request.setTitle(column(fields, columns, "title"));
+                request.setDescription(column(fields, columns, "description"));
+                String dueDate = column(fields, columns, "duedate");
+                request.setDueDate(dueDate == null ? null : LocalDate.parse(dueDate));
+                String status = column(fields, columns, "status");
+                request.setStatus(status == null ? null : TaskStatus.valueOf(status.toUpperCase(Locale.ROOT)));
+                return new ParsedRow(request, null);
+            } catch (DateTimeParseException e) {
+                return new ParsedRow(null, "dueDate must be an ISO date (yyyy-MM-dd)");
+            } catch (IllegalArgumentException e) {
+                return new ParsedRow(null, "status must be one of IN_PROGRESS, COMPLETED");
+            }
+        };
+    }
+
+    private static String column(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    // Like BufferedReader.readLine, but refuses lines longer than MAX_ROW_LENGTH
+    private static String readLine(Reader reader, StringBuilder line) throws IOException {
+        line.setLength(0);
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        while (c != -1 && c != '\n') {
+            if (c != '\r') {
+                if (line.length() == MAX_ROW_LENGTH) {
+                    throw new IllegalArgumentException(
+                            "Record exceeds the maximum length of " + MAX_ROW_LENGTH + " characters");
+                }
+                line.append((char) c);
+            }
+            c = reader.read();
+        }
+        return line.toString();
+    }
+
+    // ---- Chunked writes ----
+
+    private class ImportRun {
+
+        private final Long projectId;
+        private final Long userId;
+        private final List<TaskRequest> chunk = new ArrayList<>(chunkSize);
+        private final List<Long> chunkRows = new ArrayList<>(chunkSize);
+        private final List<TaskImportError> errors = new ArrayList<>();
+        private int imported;
+        private int failed;
+
+        ImportRun(Long projectId, Long userId) {
+            this.projectId = projectId;
+            this.userId = userId;
+        }
+
+        void accept(long rowNumber, TaskRequest request) {
+            chunk.add(request);
+            chunkRows.add(rowNumber);
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void reject(long rowNumber, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new TaskImportError(rowNumber, message));
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertChunk());
+                imported += chunk.size();
+            } catch (RuntimeException e) {
+                log.warn("Task import chunk for project {} failed", projectId, e);
+                chunkRows.forEach(row -> reject(row, "Insert failed, chunk rolled back"));
+            }
+            chunk.clear();
+            chunkRows.clear();
+        }
+
+        private void insertChunk() {
+            Project project = projectRepository.getReferenceById(projectId);
+            List<Task> tasks = new ArrayList<>(chunk.size());
+            int completed = 0;
+            for (TaskRequest request : chunk) {
+                TaskStatus status = request.getStatus() == null ? TaskStatus.IN_PROGRESS : request.getStatus();
+                if (status == TaskStatus.COMPLETED) {
+                    completed++;
+                }
+                tasks.add(Task.builder()
+                        .title(request.getTitle())
+                        .description(request.getDescription())
+                        .dueDate(request.getDueDate())
+                        .status(status)
+                        .project(project)
+                        .build());
+            }
+
+            // Sent as JDBC batches of hibernate.jdbc.batch_size
+            taskRepository.saveAll(tasks);
+            projectRepository.adjustTaskCounters(projectId, tasks.size(), completed, LocalDateTime.now());
+            eventPublisher.publishEvent(ProjectChangeEvent.tasksChanged(userId, projectId));
+            // The request-scoped persistence context would otherwise keep every imported task
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        TaskImportReport report() {
+            return new TaskImportReport(imported, failed, List.copyOf(errors), failed > errors.size());
+        }
+    }
+}
@@ -1,29 +1,52 @@
 package com.example.project_task_manager.service;
 
+import com.example.project_task_manager.dto.CursorPage;
+import com.example.project_task_manager.dto.TaskBatchUpdateRequest;
+import com.example.project_task_manager.dto.TaskFilter;
 import com.example.project_task_manager.dto.TaskRequest;
 import com.example.project_task_manager.dto.TaskResponse;
+import com.example.project_task_manager.entity.DeletedRecord;
 import com.example.project_task_manager.entity.Project;
 import com.example.project_task_manager.entity.Task;
 import com.example.project_task_manager.entity.TaskStatus;
 import com.example.project_task_manager.mapper.TaskMapper;
+import com.example.project_task_manager.notification.ProjectChangeEvent;
+import com.example.project_task_manager.pagination.KeysetCursor;
+import com.example.project_task_manager.projection.TaskView;
+import com.example.project_task_manager.repository.DeletedRecordRepository;
 import com.example.project_task_manager.repository.ProjectRepository;
 import com.example.project_task_manager.repository.TaskRepository;
+import com.example.project_task_manager.repository.TaskSpecifications;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    static final int MAX_BATCH_SIZE = 1000;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
+    private final DeletedRecordRepository deletedRecordRepository;
     private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TaskResponse createTask(Long projectId, TaskRequest request, Long userId) {
@@ -39,21 +62,21 @@ public class TaskService {
                 .build();
 
         Task savedTask = taskRepository.save(task);
-
-        // Update project's last modified date
-        project.updateLastModifiedDate();
-        projectRepository.save(project);
+        // Also bumps the project's last modified date
+        projectRepository.adjustTaskCounters(projectId, 1, 0, LocalDateTime.now());
+        eventPublisher.publishEvent(ProjectChangeEvent.tasksChanged(userId, projectId));
 
         return taskMapper.toResponse(savedTask);
     }
 
+    // List reads select TaskView rows with the owner check in the same query;
+    // only an empty result needs a second look to tell "no tasks" from "not yours"
     @Transactional(readOnly = true)
     public List<TaskResponse> getAllProjectTasks(Long projectId, Long userId) {
-        // Verify user owns the project
-        projectRepository.findByIdAndUserId(projectId, userId)
-                .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
-
-        List<Task> tasks = taskRepository.findByProjectId(projectId);
+        List<TaskView> tasks = taskRepository.findViewsByProjectId(projectId, userId);
+        if (tasks.isEmpty()) {
+            checkProjectOwnership(projectId, userId);
+        }
         return tasks.stream()
                 .map(taskMapper::toResponse)
                 .collect(Collectors.toList());
@@ -61,33 +84,109 @@ public class TaskService {
 
     @Transactional(readOnly = true)
     public Page<TaskResponse> getProjectTasksPage(Long projectId, Long userId, Pageable pageable) {
-        // Verify user owns the project
-        projectRepository.findByIdAndUserId(projectId, userId)
-                .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
+        Page<TaskView> tasks = taskRepository.findViewPageByProjectId(projectId, userId, pageable);
+        if (tasks.isEmpty()) {
+            checkProjectOwnership(projectId, userId);
+        }
+        return tasks.map(taskMapper::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TaskResponse> getProjectTasksPage(Long projectId, Long userId, TaskFilter filter, Pageable pageable) {
+        if (filter == null || filter.isEmpty()) {
+            return getProjectTasksPage(projectId, userId, pageable);
+        }
+        if (filter.getDueFrom() != null && filter.getDueTo() != null && filter.getDueFrom().isAfter(filter.getDueTo())) {
+            throw new IllegalArgumentException("dueFrom must not be after dueTo");
+        }
 
-        Page<Task> tasks = taskRepository.findByProjectId(projectId, pageable);
+        Page<TaskView> tasks = taskRepository.findBy(TaskSpecifications.matching(projectId, userId, filter),
+                query -> query.as(TaskView.class).page(pageable));
+        if (tasks.isEmpty()) {
+            checkProjectOwnership(projectId, userId);
+        }
         return tasks.map(taskMapper::toResponse);
     }
 
     @Transactional(readOnly = true)
-    public TaskResponse getTaskById(Long projectId, Long taskId, Long userId) {
-        // Verify user owns the project
-        projectRepository.findByIdAndUserId(projectId, userId)
-                .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
+    public CursorPage<TaskResponse> getProjectTasksSlice(
+            Long projectId,
+            Long userId,
+            String sortBy,
+            String cursor,
+            int size
+    ) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        // One extra row tells whether there is a next slice, without a count query
+        int limit = size + 1;
+
+        List<TaskView> rows;
+        Function<TaskView, Object> sortKey;
+        switch (sortBy) {
+            case "creationDate" -> {
+                rows = position == null
+                        ? taskRepository.findByProjectIdByCreationDateFirst(projectId, userId, Limit.of(limit))
+                        : taskRepository.findByProjectIdByCreationDateBefore(
+                                projectId, userId, position.keyAsDateTime(), position.id(), Limit.of(limit));
+                sortKey = TaskView::getCreationDate;
+            }
+            case "dueDate" -> {
+                rows = findByDueDate(projectId, userId, position, limit);
+                sortKey = TaskView::getDueDate;
+            }
+            default -> throw new IllegalArgumentException("Unsupported sort field: " + sortBy);
+        }
+        if (rows.isEmpty()) {
+            checkProjectOwnership(projectId, userId);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<TaskView> slice = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            TaskView last = slice.getLast();
+            nextCursor = KeysetCursor.of(sortKey.apply(last), last.getId()).encode();
+        }
+
+        List<TaskResponse> content = slice.stream()
+                .map(taskMapper::toResponse)
+                .collect(Collectors.toList());
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    // Dated tasks first, then the undated ones; the cursor key is null once past the dated ones
+    private List<TaskView> findByDueDate(Long projectId, Long userId, KeysetCursor position, int limit) {
+        if (position != null && position.key() == null) {
+            return taskRepository.findByProjectIdWithoutDueDateAfter(
+                    projectId, userId, position.id(), Limit.of(limit));
+        }
 
-        Task task = taskRepository.findByIdAndProjectId(taskId, projectId)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
+        List<TaskView> rows = new ArrayList<>(position == null
+                ? taskRepository.findByProjectIdByDueDateFirst(projectId, userId, Limit.of(limit))
+                : taskRepository.findByProjectIdByDueDateAfter(
+                        projectId, userId, position.keyAsDate(), position.id(), Limit.of(limit)));
+        if (rows.size() < limit) {
+            rows.addAll(taskRepository.findByProjectIdWithoutDueDateAfter(
+                    projectId, userId, 0L, Limit.of(limit - rows.size())));
+        }
+        return rows;
+    }
+
+    private void checkProjectOwnership(Long projectId, Long userId) {
+        if (!projectRepository.existsByIdAndUserId(projectId, userId)) {
+            throw new RuntimeException("Project not found or access denied");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public TaskResponse getTaskById(Long projectId, Long taskId, Long userId) {
+        Task task = findOwnedTask(projectId, taskId, userId);
         return taskMapper.toResponse(task);
     }
 
     @Transactional
     public TaskResponse updateTask(Long projectId, Long taskId, TaskRequest request, Long userId) {
-        // Verify user owns the project
-        Project project = projectRepository.findByIdAndUserId(projectId, userId)
-                .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
-
-        Task task = taskRepository.findByIdAndProjectId(taskId, projectId)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
+        Task task = findOwnedTask(projectId, taskId, userId);
 
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
@@ -95,45 +194,188 @@ public class TaskService {
 
         Task updatedTask = taskRepository.save(task);
 
-        // Update project's last modified date
-        project.updateLastModifiedDate();
-        projectRepository.save(project);
+        // Update project's last modified date. This stays a statement of its own: one statement
+        // writing both tables needs a writable CTE, which H2 cannot run, and the lookup above is
+        // still needed for the owner check and the response
+        projectRepository.touch(projectId, LocalDateTime.now());
+        eventPublisher.publishEvent(ProjectChangeEvent.tasksChanged(userId, projectId));
 
         return taskMapper.toResponse(updatedTask);
     }
 
     @Transactional
     public TaskResponse markTaskAsCompleted(Long projectId, Long taskId, Long userId) {
-        // Verify user owns the project
-        Project project = projectRepository.findByIdAndUserId(projectId, userId)
-                .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
+        Task task = findOwnedTask(projectId, taskId, userId);
 
-        Task task = taskRepository.findByIdAndProjectId(taskId, projectId)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
+        // The conditional UPDATE decides, not the status read above: of two concurrent
+        // completions only one changes the row and counts it
+        LocalDateTime now = LocalDateTime.now();
+        if (taskRepository.markCompleted(List.of(taskId), now) > 0) {
+            projectRepository.adjustTaskCounters(projectId, 0, 1, now);
+        } else {
+            projectRepository.touch(projectId, now);
+        }
+        eventPublisher.publishEvent(ProjectChangeEvent.tasksChanged(userId, projectId));
 
-        task.setStatus(TaskStatus.COMPLETED);
-        Task updatedTask = taskRepository.save(task);
+        return taskMapper.toResponse(asCompleted(task, now));
+    }
 
-        // Update project's last modified date
-        project.updateLastModifiedDate();
-        projectRepository.save(project);
+    @Transactional
+    public void deleteTask(Long projectId, Long taskId, Long userId) {
+        Task task = findOwnedTask(projectId, taskId, userId);
 
-        return taskMapper.toResponse(updatedTask);
+        LocalDateTime now = LocalDateTime.now();
+        if (deleteAndCount(projectId, List.of(task), now) == 0) {
+            // Another request deleted it first; that one wrote the tombstone and moved the counters
+            return;
+        }
+        deletedRecordRepository.save(DeletedRecord.task(taskId, projectId, userId, now));
+        eventPublisher.publishEvent(ProjectChangeEvent.tasksChanged(userId, projectId));
+    }
+
+    // Ownership check and task lookup in one query; the extra query on a miss only picks the error
+    private Task findOwnedTask(Long projectId, Long taskId, Long userId) {
+        return taskRepository.findOwnedTask(taskId, projectId, userId)
+                .orElseThrow(() -> projectRepository.existsByIdAndUserId(projectId, userId)
+                        ? new RuntimeException("Task not found")
+                        : new RuntimeException("Project not found or access denied"));
     }
 
+    // ---- Batch operations: ownership checked once, one project update per batch ----
+
     @Transactional
-    public void deleteTask(Long projectId, Long taskId, Long userId) {
-        // Verify user owns the project
+    public List<TaskResponse> createTasks(Long projectId, List<TaskRequest> requests, Long userId) {
+        checkBatchSize(requests);
         Project project = projectRepository.findByIdAndUserId(projectId, userId)
                 .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
 
-        Task task = taskRepository.findByIdAndProjectId(taskId, projectId)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
+        List<Task> tasks = requests.stream()
+                .map(request -> Task.builder()
+                        .title(request.getTitle())
+                        .description(request.getDescription())
+                        .dueDate(request.getDueDate())
+                        .status(TaskStatus.IN_PROGRESS)
+                        .project(project)
+                        .build())
+                .collect(Collectors.toList());
+
+        // Inserts are flushed together as JDBC batches
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        projectRepository.adjustTaskCounters(projectId, savedTasks.size(), 0, LocalDateTime.now());
+        eventPublisher.publishEvent(ProjectChangeEvent.tasksChanged(userId, projectId));
+
+        return savedTasks.stream()
+                .map(taskMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public List<TaskResponse> updateTasks(Long projectId, List<TaskBatchUpdateRequest> requests, Long userId) {
+        checkBatchSize(requests);
+        Map<Long, Task> tasksById = findOwnedBatch(projectId, requests.stream()
+                .map(TaskBatchUpdateRequest::getId)
+                .collect(Collectors.toList()), userId);
+
+        List<Task> updatedTasks = new ArrayList<>(requests.size());
+        for (TaskBatchUpdateRequest request : requests) {
+            Task task = tasksById.get(request.getId());
+            task.setTitle(request.getTitle());
+            task.setDescription(request.getDescription());
+            task.setDueDate(request.getDueDate());
+            updatedTasks.add(task);
+        }
+        // Dirty tasks are written as batched UPDATEs at flush
 
-        taskRepository.delete(task);
+        projectRepository.touch(projectId, LocalDateTime.now());
+        eventPublisher.publishEvent(ProjectChangeEvent.tasksChanged(userId, projectId));
+
+        return updatedTasks.stream()
+                .map(taskMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public List<TaskResponse> completeTasks(Long projectId, List<Long> taskIds, Long userId) {
+        checkBatchSize(taskIds);
+        Map<Long, Task> tasksById = findOwnedBatch(projectId, taskIds, userId);
+
+        LocalDateTime now = LocalDateTime.now();
+        int newlyCompleted = taskRepository.markCompleted(tasksById.keySet(), now);
+        projectRepository.adjustTaskCounters(projectId, 0, newlyCompleted, now);
+        eventPublisher.publishEvent(ProjectChangeEvent.tasksChanged(userId, projectId));
+
+        return tasksById.values().stream()
+                .map(task -> taskMapper.toResponse(asCompleted(task, now)))
+                .collect(Collectors.toList());
+    }
+
+    // Brings a task loaded before markCompleted in line with the row; it is detached by then
+    private static Task asCompleted(Task task, LocalDateTime completedAt) {
+        if (task.getStatus() != TaskStatus.COMPLETED) {
+            task.setStatus(TaskStatus.COMPLETED);
+            task.setUpdateDate(completedAt);
+        }
+        return task;
+    }
+
+    @Transactional
+    public void deleteTasks(Long projectId, List<Long> taskIds, Long userId) {
+        checkBatchSize(taskIds);
+        Map<Long, Task> tasksById = findOwnedBatch(projectId, taskIds, userId);
+
+        LocalDateTime now = LocalDateTime.now();
+        // Tombstones copied from the task rows in one INSERT ... SELECT, then a DELETE ... WHERE id IN (...) per status
+        deletedRecordRepository.insertTaskTombstones(tasksById.keySet(), projectId, userId, now);
+        deleteAndCount(projectId, tasksById.values(), now);
+        eventPublisher.publishEvent(ProjectChangeEvent.tasksChanged(userId, projectId));
+    }
+
+    // Deletes the tasks and shifts the project's counters by the rows actually deleted, not by the
+    // statuses read when the tasks were loaded. Those only pick the DELETE, which rechecks them: an
+    // open task completed since is left to the DELETE of completed tasks, and a task another request
+    // deleted meanwhile counts nowhere. Completion is one-way, so completed tasks need no second look.
+    // Returns the number of tasks deleted
+    private int deleteAndCount(Long projectId, Collection<Task> tasks, LocalDateTime now) {
+        Set<Long> openIds = new LinkedHashSet<>();
+        Set<Long> completedIds = new LinkedHashSet<>();
+        tasks.forEach(task -> (task.getStatus() == TaskStatus.COMPLETED ? completedIds : openIds).add(task.getId()));
+
+        int deletedOpen = openIds.isEmpty() ? 0 : taskRepository.deleteOpen(openIds, projectId);
+        if (deletedOpen < openIds.size()) {
+            completedIds.addAll(openIds);
+        }
+        int deletedCompleted = completedIds.isEmpty() ? 0 : taskRepository.deleteCompleted(completedIds, projectId);
+
+        int deleted = deletedOpen + deletedCompleted;
+        if (deleted > 0) {
+            projectRepository.adjustTaskCounters(projectId, -deleted, -deletedCompleted, now);
+        }
+        return deleted;
+    }
+
+    // Loads all tasks of the batch in one ownership-checked query, keyed in request order;
+    // fails if any id is not in the project
+    private Map<Long, Task> findOwnedBatch(Long projectId, List<Long> taskIds, Long userId) {
+        Set<Long> ids = new LinkedHashSet<>(taskIds);
+        Map<Long, Task> found = taskRepository.findOwnedTasks(ids, projectId, userId).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        if (found.size() != ids.size()) {
+            throw projectRepository.existsByIdAndUserId(projectId, userId)
+                    ? new RuntimeException("Task not found")
+                    : new RuntimeException("Project not found or access denied");
+        }
+
+        Map<Long, Task> tasksById = new LinkedHashMap<>();
+        ids.forEach(id -> tasksById.put(id, found.get(id)));
+        return tasksById;
+    }
 
-        // Update project's last modified date
-        project.updateLastModifiedDate();
-        projectRepository.save(project);
+    private static void checkBatchSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one task");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must not contain more than " + MAX_BATCH_SIZE + " tasks");
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+-- Baseline of the schema previously maintained by ddl-auto=update.
+-- Every statement is IF NOT EXISTS so it also applies cleanly to those databases;
+-- columns those databases lack are added separately, after the CREATE TABLE they skip.
+
+CREATE TABLE IF NOT EXISTS users (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name     VARCHAR(255) NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS projects (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title              VARCHAR(255) NOT NULL,
+    description        VARCHAR(255),
+    creation_date      TIMESTAMP(6),
+    last_modified_date TIMESTAMP(6),
+    user_id            BIGINT       NOT NULL,
+    total_tasks        INTEGER      NOT NULL DEFAULT 0,
+    completed_tasks    INTEGER      NOT NULL DEFAULT 0,
+    CONSTRAINT fk_projects_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- The task counters came after ddl-auto=update; V5 fills them in for existing projects
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS total_tasks INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS completed_tasks INTEGER NOT NULL DEFAULT 0;
+
+-- Tasks take ids from a pooled sequence (allocation 50) so inserts can be batched
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id            BIGINT       NOT NULL PRIMARY KEY,
+    title         VARCHAR(255) NOT NULL,
+    description   VARCHAR(255),
+    due_date      DATE,
+    creation_date TIMESTAMP(6),
+    update_date   TIMESTAMP(6),
+    status        VARCHAR(255) NOT NULL CHECK (status IN ('IN_PROGRESS', 'COMPLETED')),
+    project_id    BIGINT       NOT NULL,
+    CONSTRAINT fk_tasks_project FOREIGN KEY (project_id) REFERENCES projects (id)
+);
+
+CREATE TABLE IF NOT EXISTS deleted_records (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    entity_type VARCHAR(255) NOT NULL CHECK (entity_type IN ('PROJECT', 'TASK')),
+    entity_id   BIGINT       NOT NULL,
+    project_id  BIGINT       NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    deleted_at  TIMESTAMP(6) NOT NULL
+);
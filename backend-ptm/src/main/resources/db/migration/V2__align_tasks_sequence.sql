@@ -0,0 +1,5 @@
+-- Tasks created while ids came from IDENTITY are not covered by tasks_seq.
+-- Move the sequence a full allocation block past the highest existing id; never move it back.
+SELECT setval('tasks_seq', GREATEST(
+        (SELECT COALESCE(MAX(id), 0) FROM tasks) + 50,
+        (SELECT last_value FROM tasks_seq)));
@@ -0,0 +1,42 @@
+-- Indexes behind the hot queries, built without blocking writes.
+-- CONCURRENTLY cannot run inside a transaction (see the .conf file next to this one).
+-- A failed build leaves an INVALID index behind: drop it before re-running the migration.
+
+-- Login and registration look users up by email; emails are unique
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_users_email
+    ON users (email);
+
+-- Project lists and recent projects: WHERE user_id = ? ORDER BY last_modified_date DESC, id DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_user_last_modified
+    ON projects (user_id, last_modified_date DESC, id DESC);
+
+-- Task lists by project, newest first
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_project_creation
+    ON tasks (project_id, creation_date DESC, id DESC);
+
+-- Task lists by project ordered or filtered by due date
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_project_due
+    ON tasks (project_id, due_date, id);
+
+-- Status filters, optionally with a due-date range
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_project_status_due
+    ON tasks (project_id, status, due_date);
+
+-- Filters on update time within a project
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_project_updated
+    ON tasks (project_id, update_date);
+
+-- Delta sync across all of a user's tasks
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_update_date
+    ON tasks (update_date);
+
+-- Delta sync tombstones per user
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_deleted_records_user_deleted_at
+    ON deleted_records (user_id, deleted_at);
+
+-- Full-text search
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_search
+    ON projects USING GIN (search_vector);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_search
+    ON tasks USING GIN (search_vector);
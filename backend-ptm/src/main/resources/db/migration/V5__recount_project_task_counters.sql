@@ -0,0 +1,12 @@
+-- Projects from before the task counters existed got total_tasks = completed_tasks = 0.
+-- Recount them once here; ProjectCounterRepairJob only runs nightly after this.
+UPDATE projects p
+SET total_tasks     = c.total,
+    completed_tasks = c.completed
+FROM (SELECT project_id,
+             COUNT(*)                                    AS total,
+             COUNT(*) FILTER (WHERE status = 'COMPLETED') AS completed
+      FROM tasks
+      GROUP BY project_id) c
+WHERE c.project_id = p.id
+  AND (p.total_tasks <> c.total OR p.completed_tasks <> c.completed);
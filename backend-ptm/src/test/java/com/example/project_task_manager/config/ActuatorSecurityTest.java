@@ -0,0 +1,83 @@
+package com.example.project_task_manager.config;
+
+import com.example.project_task_manager.entity.User;
+import com.example.project_task_manager.repository.UserRepository;
+import com.example.project_task_manager.security.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * With the actuator sharing the application port, the probes and the
+ * Prometheus scrape are reachable from the public ingress, so they must
+ * require a token like every other endpoint.
+ */
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-test.properties",
+        properties = "management.server.port=${server.port}"
+)
+class ActuatorSecurityTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private MockMvc mockMvc;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+        user = userRepository.save(User.builder()
+                .name("Actuator User")
+                .email("actuator@example.com")
+                .password("password")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void prometheus_SharedPortWithoutToken_Rejected() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void health_SharedPortWithoutToken_Rejected() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/health/liveness"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void prometheus_SharedPortWithToken_Served() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/prometheus")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(user)))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,319 @@
+package com.example.project_task_manager.controller;
+
+import com.example.project_task_manager.entity.DeletedRecord;
+import com.example.project_task_manager.entity.Project;
+import com.example.project_task_manager.entity.Task;
+import com.example.project_task_manager.entity.TaskStatus;
+import com.example.project_task_manager.entity.User;
+import com.example.project_task_manager.monitoring.QueryCountFilter;
+import com.example.project_task_manager.monitoring.RequestQueryStats;
+import com.example.project_task_manager.pagination.SyncToken;
+import com.example.project_task_manager.repository.DeletedRecordRepository;
+import com.example.project_task_manager.repository.ProjectRepository;
+import com.example.project_task_manager.repository.TaskRepository;
+import com.example.project_task_manager.repository.UserRepository;
+import com.example.project_task_manager.security.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Pins the number of SQL statements each endpoint issues, counted by
+ * QueryCountFilter the same way as in production. The second-level cache is
+ * off so the counts are the cold-cache worst case. Mutations include the
+ * search reindex that runs after commit on the request thread. A change in
+ * these numbers should be deliberate; an N+1 shows up as a count that grows.
+ */
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-test.properties",
+        properties = "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+)
+class EndpointStatementCountTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private QueryCountFilter queryCountFilter;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DeletedRecordRepository deletedRecordRepository;
+
+    private MockMvc mockMvc;
+    private String token;
+    private Project project;
+    private Task openTask;
+    private Task secondOpenTask;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(queryCountFilter)
+                .apply(springSecurity())
+                .build();
+
+        User user = userRepository.save(User.builder()
+                .name("Count User")
+                .email("count@example.com")
+                .password(passwordEncoder.encode("password"))
+                .build());
+        project = projectRepository.save(Project.builder()
+                .title("Count Project")
+                .description("Counted")
+                .user(user)
+                .totalTasks(3)
+                .completedTasks(1)
+                .build());
+        List<Task> tasks = taskRepository.saveAll(List.of(
+                task("Open task", TaskStatus.IN_PROGRESS, 1),
+                task("Second open task", TaskStatus.IN_PROGRESS, 2),
+                task("Done task", TaskStatus.COMPLETED, 3)));
+        openTask = tasks.get(0);
+        secondOpenTask = tasks.get(1);
+
+        token = jwtService.generateToken(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deletedRecordRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    // ---- Auth ----
+
+    @Test
+    void register_SingleInsert() throws Exception {
+        assertStatements(1, perform(post("/api/auth/register"),
+                "{\"name\":\"New\",\"email\":\"new@example.com\",\"password\":\"password\"}"));
+    }
+
+    @Test
+    void register_DuplicateEmail_RejectedByTheInsert() throws Exception {
+        // Act
+        MvcResult result = perform(post("/api/auth/register"),
+                "{\"name\":\"Again\",\"email\":\"count@example.com\",\"password\":\"password\"}");
+
+        // Assert
+        assertStatements(1, result);
+        assertTrue(result.getResponse().getContentAsString().contains("Email already exists"));
+    }
+
+    @Test
+    void login_OneUserLookup() throws Exception {
+        // AuthService takes the user from the authenticated principal
+        assertStatements(1, perform(post("/api/auth/login"),
+                "{\"email\":\"count@example.com\",\"password\":\"password\"}"));
+    }
+
+    // ---- Projects ----
+
+    @Test
+    void projectList_VersionAndSummaries() throws Exception {
+        assertStatements(2, perform(get("/api/projects/all")));
+        // One page, smaller than the page size: no count query
+        assertStatements(2, perform(get("/api/projects")));
+        assertStatements(2, perform(get("/api/projects/cursor")));
+    }
+
+    @Test
+    void getProject_VersionAndProjectWithOwner() throws Exception {
+        assertStatements(2, perform(get("/api/projects/" + project.getId())));
+    }
+
+    @Test
+    void recentProjects_OneQuery() throws Exception {
+        assertStatements(1, perform(get("/api/projects/recent")));
+    }
+
+    @Test
+    void createProject_InsertAndReindex() throws Exception {
+        // The owner in the response comes from the principal, not from a user lookup
+        assertStatements(3, perform(post("/api/projects"), "{\"title\":\"New\",\"description\":\"d\"}"));
+    }
+
+    @Test
+    void updateProject_LoadUpdateAndReindex() throws Exception {
+        assertStatements(5, perform(put("/api/projects/" + project.getId()),
+                "{\"title\":\"Renamed\",\"description\":\"d\"}"));
+    }
+
+    @Test
+    void deleteProject_TasksDeletedInOneBatch() throws Exception {
+        // Project, its task collection, tombstone, one batched task DELETE, project DELETE
+        assertStatements(5, perform(delete("/api/projects/" + project.getId())));
+    }
+
+    // ---- Task reads: ETag lookup plus one query ----
+
+    @Test
+    void taskList_VersionAndOneQuery() throws Exception {
+        String tasks = "/api/projects/" + project.getId() + "/tasks";
+        assertStatements(2, perform(get(tasks + "/all")));
+        assertStatements(2, perform(get(tasks)));
+        assertStatements(2, perform(get(tasks + "?status=IN_PROGRESS&dueFrom=" + LocalDate.now())));
+        assertStatements(2, perform(get(tasks + "/cursor")));
+        assertStatements(2, perform(get(tasks + "/" + openTask.getId())));
+    }
+
+    @Test
+    void taskSliceByDueDate_UndatedTailQueried() throws Exception {
+        // Every task is dated and the slice is not full, so the undated tail is read as well
+        assertStatements(3, perform(get("/api/projects/" + project.getId() + "/tasks/cursor?sortBy=dueDate")));
+    }
+
+    // ---- Task writes: one project update each, then the reindex (project + tasks) ----
+
+    @Test
+    void createTask_InsertCounterAndReindex() throws Exception {
+        assertStatements(5, perform(post("/api/projects/" + project.getId() + "/tasks"),
+                "{\"title\":\"New task\"}"));
+    }
+
+    @Test
+    void updateTask_UpdateTouchAndReindex() throws Exception {
+        assertStatements(5, perform(put("/api/projects/" + project.getId() + "/tasks/" + openTask.getId()),
+                "{\"title\":\"Renamed\"}"));
+    }
+
+    @Test
+    void completeTask_UpdateCounterAndReindex() throws Exception {
+        assertStatements(5, perform(patch("/api/projects/" + project.getId() + "/tasks/" + openTask.getId() + "/complete")));
+    }
+
+    @Test
+    void deleteTask_DeleteTombstoneCounterAndReindex() throws Exception {
+        assertStatements(6, perform(delete("/api/projects/" + project.getId() + "/tasks/" + openTask.getId())));
+    }
+
+    @Test
+    void batchWrites_SameCountAsSingleWrites() throws Exception {
+        String batch = "/api/projects/" + project.getId() + "/tasks/batch";
+        String ids = "[" + openTask.getId() + "," + secondOpenTask.getId() + "]";
+
+        assertStatements(5, perform(post(batch), "[{\"title\":\"One\"},{\"title\":\"Two\"}]"));
+        assertStatements(5, perform(put(batch), "[{\"id\":" + openTask.getId() + ",\"title\":\"One\"},"
+                + "{\"id\":" + secondOpenTask.getId() + ",\"title\":\"Two\"}]"));
+        assertStatements(5, perform(patch(batch + "/complete"), ids));
+    }
+
+    @Test
+    void batchDelete_TombstonesInOneInsert() throws Exception {
+        // Tombstones for the whole batch come from one INSERT ... SELECT
+        assertStatements(6, perform(delete("/api/projects/" + project.getId() + "/tasks/batch"),
+                "[" + openTask.getId() + "," + secondOpenTask.getId() + "]"));
+        assertEquals(Set.of(openTask.getId(), secondOpenTask.getId()), deletedRecordRepository.findAll().stream()
+                .map(DeletedRecord::getEntityId)
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void importTasks_OneChunk() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/projects/" + project.getId() + "/tasks/import")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .contentType("text/csv")
+                        .content("title,status\nImported one,IN_PROGRESS\nImported two,COMPLETED\n"))
+                .andReturn();
+
+        // Access check, batched insert, counters, reindex
+        assertStatements(5, result);
+    }
+
+    @Test
+    void exportTasks_NotMeasured() throws Exception {
+        // Act
+        MvcResult result = perform(get("/api/projects/" + project.getId() + "/tasks/export"));
+
+        // Assert
+        assertTrue(result.getRequest().isAsyncStarted());
+        assertNull(result.getResponse().getHeader(QueryCountFilter.QUERY_COUNT_HEADER));
+    }
+
+    // ---- Sync and search ----
+
+    @Test
+    void sync_FullAndDelta() throws Exception {
+        assertStatements(2, perform(get("/api/sync")));
+        String since = new SyncToken(LocalDateTime.now().minusMinutes(1)).encode();
+        assertStatements(3, perform(get("/api/sync").param("since", since)));
+    }
+
+    @Test
+    void search_ServedFromMemoryIndex() throws Exception {
+        assertStatements(0, perform(get("/api/search?q=open")));
+    }
+
+    private Task task(String title, TaskStatus status, int dueInDays) {
+        return Task.builder()
+                .title(title)
+                .status(status)
+                .dueDate(LocalDate.now().plusDays(dueInDays))
+                .project(project)
+                .build();
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andReturn();
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder request, String json) throws Exception {
+        return perform(request.contentType(MediaType.APPLICATION_JSON).content(json));
+    }
+
+    private void assertStatements(int expected, MvcResult result) {
+        assertTrue(result.getResponse().getStatus() < 400,
+                () -> "HTTP " + result.getResponse().getStatus());
+        RequestQueryStats stats = (RequestQueryStats) result.getRequest().getAttribute(RequestQueryStats.ATTRIBUTE);
+        assertEquals(String.valueOf(stats.getStatementCount()),
+                result.getResponse().getHeader(QueryCountFilter.QUERY_COUNT_HEADER));
+        assertNotNull(result.getResponse().getHeader(QueryCountFilter.SERVER_TIMING_HEADER));
+
+        // The pooled task sequence is read once per 50 ids, wherever that falls in the test run
+        int sequenceReads = stats.getStatementCounts().entrySet().stream()
+                .filter(entry -> entry.getKey().contains("tasks_seq"))
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+        assertEquals(expected, stats.getStatementCount() - sequenceReads, () -> String.join("\n",
+                stats.getStatementCounts().keySet()));
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.project_task_manager.datasource;
+
+import com.example.project_task_manager.security.AuthenticatedUser;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routes through two embedded H2 databases standing in for the primary and
+ * a replica; each holds a row naming itself.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaLagMonitor lagMonitor;
+    private ReadYourWritesTracker readYourWritesTracker;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing_primary", "primary");
+        replica = h2("routing_replica", "replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_lag (seconds DOUBLE)");
+        new JdbcTemplate(replica).execute("INSERT INTO replica_lag VALUES (0)");
+
+        lagMonitor = new ReplicaLagMonitor(Map.of("replica-0", replica),
+                "SELECT seconds FROM replica_lag", Duration.ofSeconds(5));
+        readYourWritesTracker = new ReadYourWritesTracker(Duration.ofSeconds(10), 100);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(
+                primary, Map.of("replica-0", replica), lagMonitor, readYourWritesTracker));
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(1L, "test@example.com", "Test User"), null, Collections.emptyList()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replica).execute("DROP ALL OBJECTS");
+    }
+
+    private static DataSource h2(String name, String role) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE server_role (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO server_role VALUES (?)", role);
+        return dataSource;
+    }
+
+    private String roleIn(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT name FROM server_role", String.class));
+    }
+
+    @Test
+    void readOnlyTransaction_GoesToReplica() {
+        // Arrange
+        lagMonitor.checkLag();
+
+        // Act & Assert
+        assertEquals("replica", roleIn(readOnly));
+        assertEquals("primary", roleIn(readWrite));
+    }
+
+    @Test
+    void readOnlyTransaction_BeforeFirstLagCheckGoesToPrimary() {
+        // Act & Assert
+        assertEquals("primary", roleIn(readOnly));
+    }
+
+    @Test
+    void readOnlyTransaction_LaggingReplicaFallsBackToPrimary() {
+        // Arrange
+        lagMonitor.checkLag();
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 30");
+
+        // Act
+        lagMonitor.checkLag();
+
+        // Assert
+        assertEquals("primary", roleIn(readOnly));
+    }
+
+    @Test
+    void readOnlyTransaction_FailingLagProbeFallsBackToPrimary() {
+        // Arrange
+        lagMonitor.checkLag();
+        new JdbcTemplate(replica).execute("DROP TABLE replica_lag");
+
+        // Act
+        lagMonitor.checkLag();
+
+        // Assert
+        assertEquals("primary", roleIn(readOnly));
+    }
+
+    @Test
+    void readOnlyTransaction_RecentWriterReadsFromPrimary() {
+        // Arrange
+        lagMonitor.checkLag();
+
+        // Act
+        readYourWritesTracker.recordWrite(1L);
+
+        // Assert
+        assertEquals("primary", roleIn(readOnly));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(2L, "other@example.com", "Other User"), null, Collections.emptyList()));
+        assertEquals("replica", roleIn(readOnly));
+    }
+}
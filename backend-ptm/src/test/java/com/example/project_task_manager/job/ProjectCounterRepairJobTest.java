@@ -0,0 +1,89 @@
+package com.example.project_task_manager.job;
+
+import com.example.project_task_manager.notification.ProjectChangeEvent;
+import com.example.project_task_manager.projection.ProjectOwnerView;
+import com.example.project_task_manager.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectCounterRepairJobTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProjectCounterRepairJob repairJob;
+
+    @BeforeEach
+    void setUp() {
+        repairJob = new ProjectCounterRepairJob(projectRepository, eventPublisher, transactionManager, 2, false);
+    }
+
+    @Test
+    void repairAll_RecomputesDriftedProjectsInBatches() {
+        // Arrange
+        when(projectRepository.findWithDriftedTaskCounters(0L, Limit.of(2)))
+                .thenReturn(List.of(project(1L, 10L), project(4L, 20L)));
+        when(projectRepository.findWithDriftedTaskCounters(4L, Limit.of(2))).thenReturn(List.of(project(7L, 10L)));
+        when(projectRepository.findWithDriftedTaskCounters(7L, Limit.of(2))).thenReturn(Collections.emptyList());
+
+        // Act
+        repairJob.repairAll();
+
+        // Assert
+        verify(projectRepository, times(1)).recomputeTaskCounters(eq(List.of(1L, 4L)), any(LocalDateTime.class));
+        verify(projectRepository, times(1)).recomputeTaskCounters(eq(List.of(7L)), any(LocalDateTime.class));
+        verify(projectRepository, times(3)).findWithDriftedTaskCounters(anyLong(), any(Limit.class));
+        verify(eventPublisher).publishEvent(ProjectChangeEvent.tasksChanged(10L, 1L));
+        verify(eventPublisher).publishEvent(ProjectChangeEvent.tasksChanged(20L, 4L));
+        verify(eventPublisher).publishEvent(ProjectChangeEvent.tasksChanged(10L, 7L));
+    }
+
+    @Test
+    void repairAll_NothingDrifted() {
+        // Arrange
+        when(projectRepository.findWithDriftedTaskCounters(0L, Limit.of(2))).thenReturn(Collections.emptyList());
+
+        // Act
+        repairJob.repairAll();
+
+        // Assert
+        verify(projectRepository, never()).recomputeTaskCounters(any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static ProjectOwnerView project(Long id, Long userId) {
+        return new ProjectOwnerView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+        };
+    }
+}
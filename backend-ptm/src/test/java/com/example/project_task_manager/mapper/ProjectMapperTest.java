@@ -4,6 +4,7 @@ import com.example.project_task_manager.dto.ProjectResponse;
 import com.example.project_task_manager.dto.ProjectSummaryResponse;
 import com.example.project_task_manager.entity.Project;
 import com.example.project_task_manager.entity.User;
+import com.example.project_task_manager.projection.ProjectSummaryView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -11,6 +12,8 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class ProjectMapperTest {
 
@@ -69,4 +72,26 @@ class ProjectMapperTest {
         assertEquals(0, response.getCompletedTasks());
         assertEquals(0.0, response.getProgressPercentage());
     }
+
+    @Test
+    void toSummaryResponse_FromView() {
+        // Arrange
+        ProjectSummaryView view = mock(ProjectSummaryView.class);
+        when(view.getId()).thenReturn(1L);
+        when(view.getTitle()).thenReturn("Test Project");
+        when(view.getDescription()).thenReturn("Test Description");
+        when(view.getTotalTasks()).thenReturn(3);
+        when(view.getCompletedTasks()).thenReturn(1);
+
+        // Act
+        ProjectSummaryResponse response = projectMapper.toSummaryResponse(view);
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(1L, response.getId());
+        assertEquals("Test Project", response.getTitle());
+        assertEquals(3, response.getTotalTasks());
+        assertEquals(1, response.getCompletedTasks());
+        assertEquals(33.3, response.getProgressPercentage());
+    }
 }
\ No newline at end of file
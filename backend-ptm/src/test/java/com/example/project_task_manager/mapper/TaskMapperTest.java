@@ -5,6 +5,7 @@ import com.example.project_task_manager.entity.Project;
 import com.example.project_task_manager.entity.Task;
 import com.example.project_task_manager.entity.TaskStatus;
 import com.example.project_task_manager.entity.User;
+import com.example.project_task_manager.projection.TaskView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -13,6 +14,8 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class TaskMapperTest {
 
@@ -64,4 +67,25 @@ class TaskMapperTest {
         assertEquals(1L, response.getProjectId());
         assertEquals("Test Project", response.getProjectTitle());
     }
-}
\ No newline at end of file
+
+    @Test
+    void toResponse_FromView() {
+        // Arrange
+        TaskView view = mock(TaskView.class);
+        when(view.getId()).thenReturn(2L);
+        when(view.getTitle()).thenReturn("Viewed Task");
+        when(view.getStatus()).thenReturn(TaskStatus.COMPLETED);
+        when(view.getProjectId()).thenReturn(1L);
+        when(view.getProjectTitle()).thenReturn("Test Project");
+
+        // Act
+        TaskResponse response = taskMapper.toResponse(view);
+
+        // Assert
+        assertEquals(2L, response.getId());
+        assertEquals("Viewed Task", response.getTitle());
+        assertEquals(TaskStatus.COMPLETED, response.getStatus());
+        assertEquals(1L, response.getProjectId());
+        assertEquals("Test Project", response.getProjectTitle());
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.project_task_manager.monitoring;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class QueryCountFilterTest {
+
+    @SuppressWarnings("unchecked")
+    private final QueryCountFilter filter = new QueryCountFilter(mock(ObjectProvider.class), 5, 2, true);
+
+    private IllegalStateException run(String... statements) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        return assertThrows(IllegalStateException.class, () -> filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> {
+                    for (String sql : statements) {
+                        RequestQueryStats.current().statementPrepared(sql);
+                    }
+                }));
+    }
+
+    @Test
+    void repeatedStatement_ReportsRepeatThreshold() {
+        // Act
+        IllegalStateException e = run("select a", "select a", "select a");
+
+        // Assert
+        assertEquals("GET UNKNOWN issued 3 SQL statements; most repeated, 3 times (repeat threshold 2): select a",
+                e.getMessage());
+    }
+
+    @Test
+    void tooManyStatements_ReportsStatementThreshold() {
+        // Act
+        IllegalStateException e = run("select a", "select b", "select c", "select d", "select e", "select f");
+
+        // Assert
+        assertTrue(e.getMessage().startsWith("GET UNKNOWN issued 6 SQL statements (threshold 5); most repeated, 1 times:"),
+                e.getMessage());
+    }
+
+    @Test
+    void withinThresholds_SetsHeaders() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/projects"), response,
+                (req, res) -> RequestQueryStats.current().statementPrepared("select a"));
+
+        // Assert
+        assertEquals("1", response.getHeader(QueryCountFilter.QUERY_COUNT_HEADER));
+        assertNotNull(response.getHeader(QueryCountFilter.SERVER_TIMING_HEADER));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.project_task_manager.notification;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ChangeNotificationServiceTest {
+
+    private ChangeNotificationService changeNotificationService;
+
+    @BeforeEach
+    void setUp() {
+        // Not started: the tests drive flush() themselves
+        changeNotificationService = new ChangeNotificationService(
+                Duration.ofMillis(250), Duration.ofSeconds(30), Duration.ofMinutes(30), 4);
+    }
+
+    private SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = mock(SseEmitter.class);
+        SseSubscriber subscriber = new SseSubscriber(userId, emitter, 4);
+        changeNotificationService.register(subscriber);
+        subscriber.start();
+        return emitter;
+    }
+
+    @Test
+    void flush_CoalescesBurstIntoOneEventPerProject() throws Exception {
+        // Arrange
+        SseEmitter emitter = subscribe(1L);
+        for (int i = 0; i < 500; i++) {
+            changeNotificationService.onProjectChange(ProjectChangeEvent.tasksChanged(1L, 10L));
+        }
+        changeNotificationService.onProjectChange(
+                new ProjectChangeEvent(1L, 20L, ProjectChangeType.PROJECT_UPDATED));
+
+        // Act
+        changeNotificationService.flush();
+
+        // Assert: "ready" plus one event for each of the two projects
+        verify(emitter, timeout(1000).times(3)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter, after(200).times(3)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void onProjectChange_OtherUsersAreNotNotified() throws Exception {
+        // Arrange
+        SseEmitter emitter = subscribe(1L);
+        changeNotificationService.onProjectChange(ProjectChangeEvent.tasksChanged(2L, 10L));
+
+        // Act
+        changeNotificationService.flush();
+
+        // Assert: only "ready"
+        verify(emitter, after(200).times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void slowClient_BufferStaysBounded() throws Exception {
+        // Arrange: the first send blocks, as on a stalled connection
+        SseEmitter emitter = mock(SseEmitter.class);
+        Object stall = new Object();
+        doAnswer(invocation -> {
+            synchronized (stall) {
+                stall.wait(500);
+            }
+            return null;
+        }).doNothing().when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        SseSubscriber subscriber = new SseSubscriber(1L, emitter, 4);
+        subscriber.start();
+
+        // Act: far more events than the buffer holds
+        for (long projectId = 0; projectId < 100; projectId++) {
+            subscriber.sendChange(new ProjectChangeNotification(projectId, Set.of(ProjectChangeType.TASKS_CHANGED)));
+        }
+
+        // Assert: "ready", then at most the buffer, which overflowed into a resync
+        verify(emitter, after(1000).atMost(5)).send(any(SseEmitter.SseEventBuilder.class));
+        subscriber.close();
+    }
+}
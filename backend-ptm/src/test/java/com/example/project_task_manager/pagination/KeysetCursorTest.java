@@ -0,0 +1,56 @@
+package com.example.project_task_manager.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeDecode_RoundTrip() {
+        // Arrange
+        LocalDateTime key = LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123456000);
+
+        // Act
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of(key, 42L).encode());
+
+        // Assert
+        assertEquals(key, decoded.keyAsDateTime());
+        assertEquals(42L, decoded.id());
+    }
+
+    @Test
+    void encodeDecode_NullKey() {
+        // Act
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of(null, 7L).encode());
+
+        // Assert
+        assertNull(decoded.key());
+        assertNull(decoded.keyAsDate());
+        assertEquals(7L, decoded.id());
+    }
+
+    @Test
+    void decode_DateKey() {
+        // Act
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of(LocalDate.of(2024, 5, 1), 3L).encode());
+
+        // Assert
+        assertEquals(LocalDate.of(2024, 5, 1), decoded.keyAsDate());
+    }
+
+    @Test
+    void decode_BlankIsFirstPage() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(""));
+    }
+
+    @Test
+    void decode_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(KeysetCursor.of("x", 1L).encode()).keyAsDateTime());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.project_task_manager.repository;
+
+import com.example.project_task_manager.dto.TaskRequest;
+import com.example.project_task_manager.dto.TaskResponse;
+import com.example.project_task_manager.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Upgrades a database shaped like the ones ddl-auto=update created (see
+ * db/ddl-auto-schema.sql) with the Flyway migrations, on PostgreSQL as in
+ * production. The context only starts if every migration applied and
+ * Hibernate's ddl-auto=validate accepted the result.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaMigrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine")
+            .withInitScript("db/ddl-auto-schema.sql");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void migrate_DdlAutoDatabase_CountersRecounted() {
+        // Act
+        List<Map<String, Object>> counters = jdbcTemplate.queryForList(
+                "SELECT title, total_tasks, completed_tasks FROM projects " +
+                "WHERE title IN ('Three tasks', 'No tasks') ORDER BY id");
+
+        // Assert
+        assertEquals(List.of(
+                Map.of("title", "Three tasks", "total_tasks", 3, "completed_tasks", 2),
+                Map.of("title", "No tasks", "total_tasks", 0, "completed_tasks", 0)), counters);
+    }
+
+    @Test
+    void createTask_AfterMigration_IdPastExistingTasks() {
+        // Arrange
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users", Long.class);
+        Long projectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects (title, user_id) VALUES ('Created after the upgrade', ?) RETURNING id",
+                Long.class, userId);
+        Long highestId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM tasks", Long.class);
+        TaskRequest request = new TaskRequest();
+        request.setTitle("After the upgrade");
+
+        // Act
+        TaskResponse created = taskService.createTask(projectId, request, userId);
+
+        // Assert
+        assertTrue(created.getId() > highestId);
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT total_tasks FROM projects WHERE id = ?", Integer.class, projectId));
+    }
+}
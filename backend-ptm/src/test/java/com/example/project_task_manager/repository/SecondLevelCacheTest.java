@@ -0,0 +1,186 @@
+package com.example.project_task_manager.repository;
+
+import com.example.project_task_manager.dto.ProjectRequest;
+import com.example.project_task_manager.dto.TaskRequest;
+import com.example.project_task_manager.entity.Project;
+import com.example.project_task_manager.entity.User;
+import com.example.project_task_manager.security.UserDetailsServiceImpl;
+import com.example.project_task_manager.service.ProjectService;
+import com.example.project_task_manager.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that user lookups are answered from the second-level cache, that
+ * writes through Hibernate never leave a stale entry behind, and that
+ * projects (whose counters change on every task write) are read from the row.
+ */
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-test.properties",
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+class SecondLevelCacheTest {
+
+    private static final String EMAIL = "cache@example.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        user = userRepository.save(User.builder()
+                .name("Test User")
+                .email(EMAIL)
+                .password("password")
+                .build());
+        project = projectRepository.save(Project.builder()
+                .title("Test Project")
+                .description("Test Description")
+                .user(user)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void findByEmail_RepeatedLookupIssuesNoStatements() {
+        // Arrange
+        userRepository.findByEmail(EMAIL);
+        statistics.clear();
+
+        // Act
+        User found = userRepository.findByEmail(EMAIL).orElseThrow();
+
+        // Assert
+        assertEquals(user.getId(), found.getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getNaturalIdCacheHitCount() > 0);
+    }
+
+    @Test
+    void findByIdAndUserId_ProjectIsNotCached() {
+        // Arrange
+        projectRepository.findByIdAndUserId(project.getId(), user.getId());
+        statistics.clear();
+
+        // Act
+        boolean owned = projectRepository.findByIdAndUserId(project.getId(), user.getId()).isPresent();
+        boolean notOwned = projectRepository.findByIdAndUserId(project.getId(), user.getId() + 1).isPresent();
+
+        // Assert: one select per lookup, and nothing is put into or read from a project region
+        assertTrue(owned);
+        assertFalse(notOwned);
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getSecondLevelCachePutCount());
+        assertEquals(0, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void updateProject_CachedEntryShowsNewTitle() {
+        // Arrange
+        projectRepository.findByIdAndUserId(project.getId(), user.getId());
+        ProjectRequest request = new ProjectRequest();
+        request.setTitle("Renamed");
+        request.setDescription("Test Description");
+
+        // Act
+        projectService.updateProject(project.getId(), request, user.getId());
+
+        // Assert
+        assertEquals("Renamed",
+                projectRepository.findByIdAndUserId(project.getId(), user.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void createTask_CounterBulkUpdateVisibleOnNextLookup() {
+        // Arrange
+        projectRepository.findByIdAndUserId(project.getId(), user.getId());
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Task");
+
+        // Act
+        taskService.createTask(project.getId(), request, user.getId());
+
+        // Assert
+        assertEquals(1,
+                projectRepository.findByIdAndUserId(project.getId(), user.getId()).orElseThrow().getTotalTasks());
+    }
+
+    @Test
+    void getProjectById_ReadsEditFromAnotherNode() {
+        // Arrange: another node renames the project after this node looked it up
+        projectRepository.findByIdAndUserId(project.getId(), user.getId());
+        jdbcTemplate.update("UPDATE projects SET title = ? WHERE id = ?", "Renamed elsewhere", project.getId());
+
+        // Act
+        String title = projectService.getProjectById(project.getId(), user.getId()).getTitle();
+
+        // Assert: the body is as new as the ETag, which is read from the row as well
+        assertEquals("Renamed elsewhere", title);
+    }
+
+    @Test
+    void updatePassword_OtherUsersStayCached() {
+        // Arrange
+        User other = userRepository.save(User.builder()
+                .name("Other User")
+                .email("other@example.com")
+                .password("password")
+                .build());
+        userRepository.findByEmail(EMAIL);
+        userRepository.findByEmail(other.getEmail());
+
+        // Act
+        userDetailsService.updatePassword(user, "rehashed");
+        statistics.clear();
+        User rehashed = userRepository.findByEmail(EMAIL).orElseThrow();
+        userRepository.findByEmail(other.getEmail()).orElseThrow();
+
+        // Assert: the write updated one cache entry instead of evicting both regions
+        assertEquals("rehashed", rehashed.getPassword());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.project_task_manager.search;
+
+import com.example.project_task_manager.entity.Project;
+import com.example.project_task_manager.entity.User;
+import com.example.project_task_manager.notification.ProjectChangeEvent;
+import com.example.project_task_manager.notification.ProjectChangeType;
+import com.example.project_task_manager.projection.TaskView;
+import com.example.project_task_manager.repository.ProjectRepository;
+import com.example.project_task_manager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InMemorySearchBackendTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemorySearchBackend searchBackend;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        searchBackend = new InMemorySearchBackend(projectRepository, taskRepository, transactionManager);
+
+        User user = User.builder().id(1L).name("Test User").email("test@example.com").build();
+        project = Project.builder()
+                .id(10L)
+                .title("Website redesign")
+                .description("New landing page")
+                .user(user)
+                .tasks(new ArrayList<>())
+                .build();
+    }
+
+    private TaskView task(Long id, String title, String description) {
+        TaskView view = mock(TaskView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getTitle()).thenReturn(title);
+        when(view.getDescription()).thenReturn(description);
+        return view;
+    }
+
+    private void indexTasks(TaskView... tasks) {
+        when(projectRepository.findAll()).thenReturn(List.of(project));
+        when(taskRepository.findViewsByProjectId(10L, 1L)).thenReturn(List.of(tasks));
+        searchBackend.indexAll();
+    }
+
+    @Test
+    void search_RanksTitleMatchesFirstAndScopesToUser() {
+        // Arrange
+        indexTasks(
+                task(100L, "Write copy", "Copy for the landing page"),
+                task(101L, "Landing page hero", "Pick an image"));
+
+        // Act
+        List<SearchHit> hits = searchBackend.search(1L, "landing page", null, 10);
+        List<SearchHit> otherUser = searchBackend.search(2L, "landing page", null, 10);
+
+        // Assert
+        assertEquals(3, hits.size());
+        assertEquals(101L, hits.getFirst().id());
+        assertEquals(SearchResultType.TASK, hits.getFirst().type());
+        assertEquals("<mark>Landing</mark> <mark>page</mark> hero", hits.getFirst().snippet());
+        assertTrue(otherUser.isEmpty());
+    }
+
+    @Test
+    void search_RequiresAllTerms() {
+        // Arrange
+        indexTasks(task(100L, "Write copy", "Copy for the landing page"));
+
+        // Act
+        List<SearchHit> hits = searchBackend.search(1L, "copy landing", null, 10);
+
+        // Assert
+        assertEquals(1, hits.size());
+        assertEquals(100L, hits.getFirst().id());
+    }
+
+    @Test
+    void search_ContinuesAfterPosition() {
+        // Arrange
+        indexTasks(
+                task(100L, "Page one", null),
+                task(101L, "Page two", null),
+                task(102L, "Page three", null));
+        List<SearchHit> first = searchBackend.search(1L, "page", null, 2);
+        SearchHit last = first.getLast();
+
+        // Act
+        List<SearchHit> next = searchBackend.search(1L, "page",
+                new SearchPosition(last.rank(), last.type(), last.id()), 10);
+
+        // Assert
+        assertEquals(2, first.size());
+        assertEquals(2, next.size());
+        assertTrue(next.stream().noneMatch(first::contains));
+    }
+
+    @Test
+    void search_EscapesHtmlInSnippets() {
+        // Arrange
+        indexTasks(task(100L, "Fix <script> tag", "Escape <mark> in bug reports"));
+
+        // Act
+        List<SearchHit> hits = searchBackend.search(1L, "mark", null, 10);
+
+        // Assert
+        assertEquals("Escape &lt;<mark>mark</mark>&gt; in bug reports", hits.getFirst().snippet());
+    }
+
+    @Test
+    void onProjectChange_DeletedProjectRemovesItsTasks() {
+        // Arrange
+        indexTasks(task(100L, "Landing copy", null));
+
+        // Act
+        searchBackend.onProjectChange(new ProjectChangeEvent(1L, 10L, ProjectChangeType.PROJECT_DELETED));
+
+        // Assert
+        assertTrue(searchBackend.search(1L, "landing", null, 10).isEmpty());
+    }
+
+    @Test
+    void onProjectChange_ReindexesProjectTasks() {
+        // Arrange
+        indexTasks(task(100L, "Landing copy", null));
+        TaskView renamed = task(100L, "Pricing table", null);
+        when(projectRepository.findById(10L)).thenReturn(Optional.of(project));
+        when(taskRepository.findViewsByProjectId(10L, 1L)).thenReturn(List.of(renamed));
+
+        // Act
+        searchBackend.onProjectChange(ProjectChangeEvent.tasksChanged(1L, 10L));
+
+        // Assert
+        assertTrue(searchBackend.search(1L, "copy", null, 10).isEmpty());
+        assertEquals(100L, searchBackend.search(1L, "pricing", null, 10).getFirst().id());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.project_task_manager.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoundedPasswordEncoderTest {
+
+    private PasswordEncoder delegate;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PasswordEncoder.class);
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        encoder.close();
+    }
+
+    @Test
+    void matches_RunsOnHashingPool() {
+        // Arrange
+        when(delegate.matches("password", "hash")).thenAnswer(invocation ->
+                Thread.currentThread().getName().startsWith("password-hash-"));
+
+        // Act & Assert
+        assertTrue(encoder.matches("password", "hash"));
+    }
+
+    @Test
+    void encode_PropagatesDelegateException() {
+        // Arrange
+        when(delegate.encode("password")).thenThrow(new IllegalArgumentException("bad input"));
+
+        // Act & Assert
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> encoder.encode("password"));
+        assertEquals("bad input", e.getMessage());
+    }
+
+    @Test
+    void matches_QueueFull_FailsFastWith503() throws Exception {
+        // Arrange: one hash running, one queued
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.matches("slow", "hash")).thenAnswer(invocation -> {
+            running.countDown();
+            return release.await(10, TimeUnit.SECONDS);
+        });
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> encoder.matches("slow", "hash"));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("slow", "hash"));
+        while (encoder.getExecutor().getQueue().isEmpty()) {
+            Thread.onSpinWait();
+        }
+
+        // Act
+        PasswordHashingBusyException e = assertThrows(PasswordHashingBusyException.class,
+                () -> encoder.matches("slow", "hash"));
+        release.countDown();
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatusCode());
+        assertEquals("3", e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.project_task_manager.security;
 
 import com.example.project_task_manager.entity.User;
+import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -77,4 +78,45 @@ class JwtServiceTest {
         // Assert
         assertFalse(isValid);
     }
+
+    @Test
+    void verify_ReturnsSubjectAndExpiration() {
+        // Arrange
+        String token = jwtService.generateToken(user);
+
+        // Act
+        JwtClaims claims = jwtService.verify(token);
+
+        // Assert
+        assertEquals("test@example.com", claims.subject());
+        assertNotNull(claims.expiration());
+        assertFalse(claims.isExpired());
+        assertTrue(jwtService.isTokenValid(claims, user));
+    }
+
+    @Test
+    void verify_CarriesPrincipalClaims() {
+        // Arrange
+        String token = jwtService.generateToken(user);
+
+        // Act
+        JwtClaims claims = jwtService.verify(token);
+        AuthenticatedUser principal = claims.toPrincipal();
+
+        // Assert
+        assertTrue(claims.hasPrincipal());
+        assertEquals(1L, principal.getId());
+        assertEquals("test@example.com", principal.getEmail());
+        assertEquals("Test User", principal.getName());
+    }
+
+    @Test
+    void verify_TamperedToken() {
+        // Arrange
+        String token = jwtService.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtService.verify(tampered));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.example.project_task_manager.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordEncodersTest {
+
+    // Low work factors keep the test fast; the behaviour does not depend on them
+    private static final int ARGON2_MEMORY_KIB = 1024;
+
+    private static PasswordEncoder encoder(String algorithm, int bcryptStrength, int argon2Iterations) {
+        return PasswordEncoders.delegating(algorithm, bcryptStrength, ARGON2_MEMORY_KIB, argon2Iterations, 1);
+    }
+
+    @Test
+    void encode_PrefixesConfiguredAlgorithm() {
+        // Arrange
+        PasswordEncoder encoder = encoder(PasswordEncoders.BCRYPT, 4, 1);
+
+        // Act
+        String hash = encoder.encode("password");
+
+        // Assert
+        assertTrue(hash.startsWith("{bcrypt}$2a$04$"));
+        assertTrue(encoder.matches("password", hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    void legacyHash_MatchesAndIsUpgraded() {
+        // Arrange: stored before hashes carried an {id} prefix
+        String legacy = new BCryptPasswordEncoder(4).encode("password");
+        PasswordEncoder encoder = encoder(PasswordEncoders.BCRYPT, 4, 1);
+
+        // Act & Assert
+        assertTrue(encoder.matches("password", legacy));
+        assertFalse(encoder.matches("wrong", legacy));
+        assertTrue(encoder.upgradeEncoding(legacy));
+    }
+
+    @Test
+    void raisedStrength_UpgradesWeakerHashes() {
+        // Arrange
+        String weak = encoder(PasswordEncoders.BCRYPT, 4, 1).encode("password");
+        PasswordEncoder encoder = encoder(PasswordEncoders.BCRYPT, 5, 1);
+
+        // Act & Assert
+        assertTrue(encoder.matches("password", weak));
+        assertTrue(encoder.upgradeEncoding(weak));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("password")));
+    }
+
+    @Test
+    void argon2_UpgradesBcryptHashes() {
+        // Arrange
+        String bcrypt = encoder(PasswordEncoders.BCRYPT, 4, 1).encode("password");
+        PasswordEncoder encoder = encoder(PasswordEncoders.ARGON2, 4, 1);
+
+        // Act
+        String argon2 = encoder.encode("password");
+
+        // Assert
+        assertTrue(argon2.startsWith("{argon2}$argon2id$"));
+        assertTrue(encoder.matches("password", argon2));
+        assertTrue(encoder.matches("password", bcrypt));
+        assertTrue(encoder.upgradeEncoding(bcrypt));
+        assertFalse(encoder.upgradeEncoding(argon2));
+    }
+
+    @Test
+    void unknownAlgorithm_Rejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> encoder("md5", 4, 1));
+    }
+}
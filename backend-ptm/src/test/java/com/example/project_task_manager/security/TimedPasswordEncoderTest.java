@@ -0,0 +1,63 @@
+package com.example.project_task_manager.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TimedPasswordEncoderTest {
+
+    private PasswordEncoder delegate;
+    private SimpleMeterRegistry registry;
+    private TimedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PasswordEncoder.class);
+        registry = new SimpleMeterRegistry();
+        encoder = new TimedPasswordEncoder(delegate, registry);
+    }
+
+    @Test
+    void matches_DelegatesAndRecords() {
+        // Arrange
+        when(delegate.matches("password", "hash")).thenReturn(true);
+        when(delegate.matches("wrong", "hash")).thenReturn(false);
+
+        // Act
+        boolean correct = encoder.matches("password", "hash");
+        boolean wrong = encoder.matches("wrong", "hash");
+
+        // Assert
+        assertTrue(correct);
+        assertFalse(wrong);
+        assertEquals(2, registry.get("app.password.matches").timer().count());
+        assertEquals(0, registry.get("app.password.encode").timer().count());
+    }
+
+    @Test
+    void encode_DelegatesAndRecords() {
+        // Arrange
+        when(delegate.encode("password")).thenReturn("hash");
+
+        // Act
+        String hash = encoder.encode("password");
+
+        // Assert
+        assertEquals("hash", hash);
+        assertEquals(1, registry.get("app.password.encode").timer().count());
+    }
+
+    @Test
+    void upgradeEncoding_Delegates() {
+        // Arrange
+        when(delegate.upgradeEncoding("hash")).thenReturn(true);
+
+        // Act & Assert
+        assertTrue(encoder.upgradeEncoding("hash"));
+    }
+}
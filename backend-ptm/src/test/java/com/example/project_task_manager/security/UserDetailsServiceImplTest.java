@@ -0,0 +1,63 @@
+package com.example.project_task_manager.security;
+
+import com.example.project_task_manager.entity.User;
+import com.example.project_task_manager.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserDetailsServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Test
+    void updatePassword_StoresNewHash() {
+        // Arrange
+        User user = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .password("$2a$04$legacy")
+                .build();
+        User managed = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .password("$2a$04$legacy")
+                .build();
+        when(userRepository.findWritableById(1L)).thenReturn(Optional.of(managed));
+
+        // Act
+        UserDetails updated = userDetailsService.updatePassword(user, "{bcrypt}$2a$10$new");
+
+        // Assert
+        assertSame(managed, updated);
+        assertEquals("{bcrypt}$2a$10$new", managed.getPassword());
+    }
+
+    @Test
+    void updatePassword_UserGone() {
+        // Arrange
+        User user = User.builder()
+                .id(2L)
+                .email("gone@example.com")
+                .password("hash")
+                .build();
+        when(userRepository.findWritableById(2L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.updatePassword(user, "new"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.project_task_manager.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    @Test
+    void get_ReturnsCachedClaims() {
+        // Arrange
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        JwtClaims claims = new JwtClaims("test@example.com", 1L, "Test User", Instant.now().plusSeconds(60));
+        cache.put("token", claims);
+
+        // Act & Assert
+        assertEquals(claims, cache.get("token"));
+        assertNull(cache.get("other-token"));
+    }
+
+    @Test
+    void get_DropsExpiredEntries() {
+        // Arrange
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put("token", new JwtClaims("test@example.com", 1L, "Test User", Instant.now().minusSeconds(1)));
+
+        // Act & Assert
+        assertNull(cache.get("token"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_StaysWithinMaxSize() {
+        // Arrange
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        Instant expiration = Instant.now().plusSeconds(60);
+
+        // Act
+        cache.put("a", new JwtClaims("a", 1L, "Test User", expiration));
+        cache.put("b", new JwtClaims("b", 1L, "Test User", expiration));
+        cache.put("c", new JwtClaims("c", 1L, "Test User", expiration));
+
+        // Assert
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void put_ZeroSizeCachesNothing() {
+        // Arrange
+        VerifiedTokenCache cache = new VerifiedTokenCache(0);
+
+        // Act
+        cache.put("token", new JwtClaims("test@example.com", 1L, "Test User", Instant.now().plusSeconds(60)));
+
+        // Assert
+        assertNull(cache.get("token"));
+        assertEquals(0, cache.size());
+    }
+}
@@ -6,17 +6,21 @@ import com.example.project_task_manager.dto.RegisterRequest;
 import com.example.project_task_manager.entity.User;
 import com.example.project_task_manager.repository.UserRepository;
 import com.example.project_task_manager.security.JwtService;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.Optional;
+import java.sql.SQLException;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -66,11 +70,10 @@ class AuthServiceTest {
     @Test
     void register_Success() {
         // Arrange
-        when(userRepository.existsByEmail(registerRequest.getEmail())).thenReturn(false);
         when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
 
         // Use Answer to set ID on the user when save is called
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> {
             User userArg = invocation.getArgument(0);
             return User.builder()
                     .id(1L)
@@ -93,13 +96,15 @@ class AuthServiceTest {
         assertEquals("Test User", response.getUser().getName());
         assertEquals("test@example.com", response.getUser().getEmail());
         assertEquals("User registered successfully", response.getMessage());
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
     }
 
     @Test
     void register_EmailAlreadyExists() {
         // Arrange
-        when(userRepository.existsByEmail(registerRequest.getEmail())).thenReturn(true);
+        when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DuplicateKeyException("ux_users_email"));
 
         // Act
         AuthResponse response = authService.register(registerRequest);
@@ -108,16 +113,61 @@ class AuthServiceTest {
         assertNotNull(response);
         assertNull(response.getToken());
         assertEquals("Email already exists", response.getMessage());
-        verify(userRepository, never()).save(any(User.class));
+        verify(jwtService, never()).generateToken(any(User.class));
+    }
+
+    @Test
+    void register_UnclassifiedUniqueViolation_EmailAlreadyExists() {
+        // Arrange: the unique index name is not mapped to a constraint, as on H2
+        ConstraintViolationException violation = new ConstraintViolationException("duplicate",
+                new SQLException("Unique index or primary key violation", "23505"),
+                ConstraintViolationException.ConstraintKind.OTHER, null);
+        when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", violation));
+
+        // Act
+        AuthResponse response = authService.register(registerRequest);
+
+        // Assert
+        assertNull(response.getToken());
+        assertEquals("Email already exists", response.getMessage());
+    }
+
+    @Test
+    void register_UnclassifiedOtherViolation_Propagates() {
+        // Arrange
+        ConstraintViolationException violation = new ConstraintViolationException("check failed",
+                new SQLException("Check constraint violation", "23514"),
+                ConstraintViolationException.ConstraintKind.OTHER, null);
+        when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", violation));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> authService.register(registerRequest));
+    }
+
+    @Test
+    void register_OtherConstraintViolation_Propagates() {
+        // Arrange
+        ConstraintViolationException violation = new ConstraintViolationException("name is null",
+                new SQLException("NULL not allowed for column NAME", "23502"),
+                ConstraintViolationException.ConstraintKind.NOT_NULL, null);
+        when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", violation));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> authService.register(registerRequest));
     }
 
     @Test
     void login_Success() {
         // Arrange
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(null);
-        when(userRepository.findByEmail(authRequest.getEmail())).thenReturn(Optional.of(user));
-        when(jwtService.generateToken(any(User.class))).thenReturn("jwt-token");
+                .thenReturn(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        when(jwtService.generateToken(user)).thenReturn("jwt-token");
 
         // Act
         AuthResponse response = authService.login(authRequest);
@@ -128,5 +178,7 @@ class AuthServiceTest {
         assertNotNull(response.getUser());
         assertEquals("test@example.com", response.getUser().getEmail());
         verify(authenticationManager, times(1)).authenticate(any());
+        // The authenticated principal is reused; the user is not looked up again
+        verifyNoInteractions(userRepository);
     }
 }
\ No newline at end of file
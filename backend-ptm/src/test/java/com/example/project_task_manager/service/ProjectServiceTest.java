@@ -1,18 +1,28 @@
 package com.example.project_task_manager.service;
 
+import com.example.project_task_manager.dto.CursorPage;
 import com.example.project_task_manager.dto.ProjectRequest;
 import com.example.project_task_manager.dto.ProjectResponse;
 import com.example.project_task_manager.dto.ProjectSummaryResponse;
+import com.example.project_task_manager.entity.DeletedRecord;
+import com.example.project_task_manager.entity.DeletedRecordType;
 import com.example.project_task_manager.entity.Project;
 import com.example.project_task_manager.entity.User;
 import com.example.project_task_manager.mapper.ProjectMapper;
+import com.example.project_task_manager.pagination.KeysetCursor;
+import com.example.project_task_manager.projection.ProjectSummaryView;
+import com.example.project_task_manager.repository.DeletedRecordRepository;
 import com.example.project_task_manager.repository.ProjectRepository;
+import com.example.project_task_manager.repository.UserRepository;
+import com.example.project_task_manager.security.AuthenticatedUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -31,9 +41,21 @@ class ProjectServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DeletedRecordRepository deletedRecordRepository;
+
     @Mock
     private ProjectMapper projectMapper;
 
+    @Mock
+    private RecentProjectsService recentProjectsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -89,26 +111,28 @@ class ProjectServiceTest {
     @Test
     void createProject_Success() {
         // Arrange
+        when(userRepository.getReferenceById(user.getId())).thenReturn(user);
         when(projectRepository.save(any(Project.class))).thenReturn(project);
-        when(projectMapper.toResponse(any(Project.class))).thenReturn(projectResponse);
+        when(projectMapper.toResponse(any(Project.class), eq(user.getName()), eq(user.getEmail())))
+                .thenReturn(projectResponse);
 
         // Act
-        ProjectResponse response = projectService.createProject(projectRequest, user);
+        ProjectResponse response = projectService.createProject(projectRequest, AuthenticatedUser.from(user));
 
         // Assert
         assertNotNull(response);
         assertEquals("Test Project", response.getTitle());
         assertEquals("Test Description", response.getDescription());
         verify(projectRepository, times(1)).save(any(Project.class));
-        verify(projectMapper, times(1)).toResponse(any(Project.class));
+        verify(projectMapper, never()).toResponse(any(Project.class));
     }
 
     @Test
     void getAllUserProjects_Success() {
         // Arrange
-        List<Project> projects = Collections.singletonList(project);
-        when(projectRepository.findByUserId(user.getId())).thenReturn(projects);
-        when(projectMapper.toSummaryResponse(any(Project.class))).thenReturn(projectSummaryResponse);
+        ProjectSummaryView view = mock(ProjectSummaryView.class);
+        when(projectRepository.findSummariesByUserId(user.getId())).thenReturn(Collections.singletonList(view));
+        when(projectMapper.toSummaryResponse(view)).thenReturn(projectSummaryResponse);
 
         // Act
         List<ProjectSummaryResponse> responses = projectService.getAllUserProjects(user.getId());
@@ -117,18 +141,18 @@ class ProjectServiceTest {
         assertNotNull(responses);
         assertEquals(1, responses.size());
         assertEquals("Test Project", responses.getFirst().getTitle());
-        verify(projectRepository, times(1)).findByUserId(user.getId());
+        verify(projectRepository, times(1)).findSummariesByUserId(user.getId());
     }
 
     @Test
     void getUserProjectsPage_Success() {
         // Arrange
-        List<Project> projects = Collections.singletonList(project);
-        Page<Project> projectPage = new PageImpl<>(projects);
+        ProjectSummaryView view = mock(ProjectSummaryView.class);
+        Page<ProjectSummaryView> projectPage = new PageImpl<>(Collections.singletonList(view));
         Pageable pageable = PageRequest.of(0, 6);
 
-        when(projectRepository.findPageByUserId(user.getId(), pageable)).thenReturn(projectPage);
-        when(projectMapper.toSummaryResponse(any(Project.class))).thenReturn(projectSummaryResponse);
+        when(projectRepository.findSummaryPageByUserId(user.getId(), pageable)).thenReturn(projectPage);
+        when(projectMapper.toSummaryResponse(view)).thenReturn(projectSummaryResponse);
 
         // Act
         Page<ProjectSummaryResponse> responses = projectService.getUserProjectsPage(user.getId(), pageable);
@@ -136,13 +160,53 @@ class ProjectServiceTest {
         // Assert
         assertNotNull(responses);
         assertEquals(1, responses.getTotalElements());
-        verify(projectRepository, times(1)).findPageByUserId(user.getId(), pageable);
+        verify(projectRepository, times(1)).findSummaryPageByUserId(user.getId(), pageable);
+    }
+
+    @Test
+    void getUserProjectsSlice_FirstSliceHasNext() {
+        // Arrange
+        LocalDateTime lastModified = LocalDateTime.of(2024, 5, 1, 10, 0);
+        ProjectSummaryView first = mock(ProjectSummaryView.class);
+        ProjectSummaryView second = mock(ProjectSummaryView.class);
+        when(first.getId()).thenReturn(9L);
+        when(first.getLastModifiedDate()).thenReturn(lastModified);
+        when(projectRepository.findSummariesByUserIdFirst(user.getId(), Limit.of(2)))
+                .thenReturn(List.of(first, second));
+        when(projectMapper.toSummaryResponse(first)).thenReturn(projectSummaryResponse);
+
+        // Act
+        CursorPage<ProjectSummaryResponse> slice = projectService.getUserProjectsSlice(user.getId(), null, 1);
+
+        // Assert
+        assertEquals(1, slice.getContent().size());
+        assertTrue(slice.isHasNext());
+        KeysetCursor next = KeysetCursor.decode(slice.getNextCursor());
+        assertEquals(lastModified, next.keyAsDateTime());
+        assertEquals(9L, next.id());
+    }
+
+    @Test
+    void getUserProjectsSlice_FromCursor() {
+        // Arrange
+        LocalDateTime lastModified = LocalDateTime.of(2024, 5, 1, 10, 0);
+        String cursor = KeysetCursor.of(lastModified, 9L).encode();
+        when(projectRepository.findSummariesByUserIdBefore(user.getId(), lastModified, 9L, Limit.of(7)))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        CursorPage<ProjectSummaryResponse> slice = projectService.getUserProjectsSlice(user.getId(), cursor, 6);
+
+        // Assert
+        assertTrue(slice.getContent().isEmpty());
+        assertFalse(slice.isHasNext());
+        assertNull(slice.getNextCursor());
     }
 
     @Test
     void getProjectById_Success() {
         // Arrange
-        when(projectRepository.findByIdAndUserId(1L, user.getId())).thenReturn(Optional.of(project));
+        when(projectRepository.findWithOwnerByIdAndUserId(1L, user.getId())).thenReturn(Optional.of(project));
         when(projectMapper.toResponse(any(Project.class))).thenReturn(projectResponse);
 
         // Act
@@ -151,24 +215,26 @@ class ProjectServiceTest {
         // Assert
         assertNotNull(response);
         assertEquals("Test Project", response.getTitle());
-        verify(projectRepository, times(1)).findByIdAndUserId(1L, user.getId());
+        verify(projectRepository, times(1)).findWithOwnerByIdAndUserId(1L, user.getId());
     }
 
     @Test
     void getProjectById_NotFound() {
         // Arrange
-        when(projectRepository.findByIdAndUserId(1L, user.getId())).thenReturn(Optional.empty());
+        when(projectRepository.findWithOwnerByIdAndUserId(1L, user.getId())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> {
             projectService.getProjectById(1L, user.getId());
         });
-        verify(projectRepository, times(1)).findByIdAndUserId(1L, user.getId());
+        verify(projectRepository, times(1)).findWithOwnerByIdAndUserId(1L, user.getId());
     }
 
     @Test
     void updateProject_Success() {
         // Arrange
+        LocalDateTime previous = LocalDateTime.now().minusDays(1);
+        project.setLastModifiedDate(previous);
         when(projectRepository.findByIdAndUserId(1L, user.getId())).thenReturn(Optional.of(project));
         when(projectRepository.save(any(Project.class))).thenReturn(project);
         when(projectMapper.toResponse(any(Project.class))).thenReturn(projectResponse);
@@ -178,6 +244,7 @@ class ProjectServiceTest {
 
         // Assert
         assertNotNull(response);
+        assertTrue(project.getLastModifiedDate().isAfter(previous));
         verify(projectRepository, times(1)).save(any(Project.class));
     }
 
@@ -192,15 +259,14 @@ class ProjectServiceTest {
 
         // Assert
         verify(projectRepository, times(1)).delete(project);
+        verify(deletedRecordRepository, times(1)).save(argThat((DeletedRecord record) ->
+                record.getEntityType() == DeletedRecordType.PROJECT && record.getEntityId().equals(1L)));
     }
 
     @Test
     void getRecentlyModifiedProjects_Success() {
         // Arrange
-        List<Project> projects = Collections.singletonList(project);
-        when(projectRepository.findRecentlyModifiedProjects(eq(user.getId()), any(LocalDateTime.class)))
-                .thenReturn(projects);
-        when(projectMapper.toSummaryResponse(any(Project.class))).thenReturn(projectSummaryResponse);
+        when(recentProjectsService.getRecentProjects(user.getId())).thenReturn(List.of(projectSummaryResponse));
 
         // Act
         List<ProjectSummaryResponse> responses = projectService.getRecentlyModifiedProjects(user.getId());
@@ -208,6 +274,7 @@ class ProjectServiceTest {
         // Assert
         assertNotNull(responses);
         assertEquals(1, responses.size());
-        verify(projectRepository, times(1)).findRecentlyModifiedProjects(eq(user.getId()), any(LocalDateTime.class));
+        verify(recentProjectsService, times(1)).getRecentProjects(user.getId());
+        verifyNoInteractions(projectRepository);
     }
-}
\ No newline at end of file
+}
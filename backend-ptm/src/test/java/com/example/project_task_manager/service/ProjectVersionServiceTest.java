@@ -0,0 +1,81 @@
+package com.example.project_task_manager.service;
+
+import com.example.project_task_manager.projection.ProjectListVersion;
+import com.example.project_task_manager.repository.ProjectRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectVersionServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @InjectMocks
+    private ProjectVersionService projectVersionService;
+
+    @Test
+    void getProjectEtag_ChangesWithLastModifiedDate() {
+        // Arrange
+        LocalDateTime modified = LocalDateTime.of(2030, 1, 31, 12, 0);
+        when(projectRepository.findLastModifiedDate(1L, 1L))
+                .thenReturn(Optional.of(modified))
+                .thenReturn(Optional.of(modified.plusNanos(1000)));
+
+        // Act
+        String before = projectVersionService.getProjectEtag(1L, 1L).orElseThrow();
+        String after = projectVersionService.getProjectEtag(1L, 1L).orElseThrow();
+
+        // Assert
+        assertTrue(before.startsWith("\"") && before.endsWith("\""));
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    void getProjectEtag_NotOwned() {
+        // Arrange
+        when(projectRepository.findLastModifiedDate(1L, 2L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertTrue(projectVersionService.getProjectEtag(1L, 2L).isEmpty());
+    }
+
+    @Test
+    void getProjectListEtag_ChangesWithProjectCount() {
+        // Arrange
+        LocalDateTime modified = LocalDateTime.of(2030, 1, 31, 12, 0);
+        ProjectListVersion three = mock(ProjectListVersion.class);
+        ProjectListVersion two = mock(ProjectListVersion.class);
+        when(three.getLastModifiedDate()).thenReturn(modified);
+        when(three.getProjectCount()).thenReturn(3L);
+        when(two.getLastModifiedDate()).thenReturn(modified);
+        when(two.getProjectCount()).thenReturn(2L);
+        when(projectRepository.findListVersion(1L)).thenReturn(three).thenReturn(two);
+
+        // Act & Assert
+        assertNotEquals(projectVersionService.getProjectListEtag(1L), projectVersionService.getProjectListEtag(1L));
+    }
+
+    @Test
+    void getProjectListEtag_NoProjects() {
+        // Arrange
+        ProjectListVersion empty = mock(ProjectListVersion.class);
+        when(empty.getProjectCount()).thenReturn(0L);
+        when(projectRepository.findListVersion(1L)).thenReturn(empty);
+
+        // Act
+        String etag = projectVersionService.getProjectListEtag(1L);
+
+        // Assert
+        assertEquals("\"u1-0-0\"", etag);
+    }
+}
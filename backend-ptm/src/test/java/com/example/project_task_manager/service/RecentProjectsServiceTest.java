@@ -0,0 +1,114 @@
+package com.example.project_task_manager.service;
+
+import com.example.project_task_manager.dto.ProjectSummaryResponse;
+import com.example.project_task_manager.mapper.ProjectMapper;
+import com.example.project_task_manager.notification.ProjectChangeEvent;
+import com.example.project_task_manager.projection.ProjectSummaryView;
+import com.example.project_task_manager.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecentProjectsServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectMapper projectMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RecentProjectsService recentProjectsService;
+
+    @BeforeEach
+    void setUp() {
+        recentProjectsService = new RecentProjectsService(projectRepository, projectMapper, transactionManager,
+                Duration.ofHours(24), 5, true, Duration.ofMinutes(1), 100);
+    }
+
+    private ProjectSummaryView view(LocalDateTime lastModified) {
+        ProjectSummaryView view = mock(ProjectSummaryView.class);
+        when(view.getLastModifiedDate()).thenReturn(lastModified);
+        return view;
+    }
+
+    @Test
+    void getRecentProjects_LimitRunsInQuery() {
+        // Arrange
+        ProjectSummaryView view = view(LocalDateTime.now());
+        when(projectRepository.findRecentSummaries(eq(1L), any(LocalDateTime.class), eq(Limit.of(5))))
+                .thenReturn(List.of(view));
+        when(projectMapper.toSummaryResponse(view)).thenReturn(new ProjectSummaryResponse());
+
+        // Act
+        List<ProjectSummaryResponse> projects = recentProjectsService.getRecentProjects(1L);
+
+        // Assert
+        assertEquals(1, projects.size());
+    }
+
+    @Test
+    void getRecentProjects_RepeatedPollsRunNoQuery() {
+        // Arrange
+        ProjectSummaryView view = view(LocalDateTime.now());
+        when(projectRepository.findRecentSummaries(eq(1L), any(LocalDateTime.class), eq(Limit.of(5))))
+                .thenReturn(List.of(view));
+        when(projectMapper.toSummaryResponse(view)).thenReturn(new ProjectSummaryResponse());
+
+        // Act
+        recentProjectsService.getRecentProjects(1L);
+        recentProjectsService.getRecentProjects(1L);
+        recentProjectsService.getRecentProjects(1L);
+
+        // Assert: a cache hit does not even open a transaction
+        verify(projectRepository, times(1)).findRecentSummaries(eq(1L), any(LocalDateTime.class), any(Limit.class));
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @Test
+    void onProjectChange_DropsCachedResult() {
+        // Arrange
+        when(projectRepository.findRecentSummaries(eq(1L), any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of());
+        recentProjectsService.getRecentProjects(1L);
+
+        // Act
+        recentProjectsService.onProjectChange(ProjectChangeEvent.tasksChanged(1L, 10L));
+        recentProjectsService.getRecentProjects(1L);
+
+        // Assert
+        verify(projectRepository, times(2)).findRecentSummaries(eq(1L), any(LocalDateTime.class), any(Limit.class));
+    }
+
+    @Test
+    void getRecentProjects_ReloadsOnceOldestProjectLeavesWindow() {
+        // Arrange: the oldest project is exactly at the edge of the window
+        ProjectSummaryView old = view(LocalDateTime.now().minusHours(24));
+        when(projectRepository.findRecentSummaries(eq(1L), any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(old));
+        when(projectMapper.toSummaryResponse(old)).thenReturn(new ProjectSummaryResponse());
+
+        // Act
+        recentProjectsService.getRecentProjects(1L);
+        recentProjectsService.getRecentProjects(1L);
+
+        // Assert
+        verify(projectRepository, times(2)).findRecentSummaries(eq(1L), any(LocalDateTime.class), any(Limit.class));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.project_task_manager.service;
+
+import com.example.project_task_manager.dto.CursorPage;
+import com.example.project_task_manager.dto.SearchResultResponse;
+import com.example.project_task_manager.search.SearchBackend;
+import com.example.project_task_manager.search.SearchHit;
+import com.example.project_task_manager.search.SearchPosition;
+import com.example.project_task_manager.search.SearchResultType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private SearchBackend searchBackend;
+
+    @InjectMocks
+    private SearchService searchService;
+
+    @Test
+    void search_NextCursorResumesAfterLastHit() {
+        // Arrange
+        SearchHit first = new SearchHit(SearchResultType.PROJECT, 1L, 1L, "Landing", "<mark>Landing</mark>", 0.6f);
+        SearchHit second = new SearchHit(SearchResultType.TASK, 7L, 1L, "Landing copy", "<mark>Landing</mark> copy", 0.3f);
+        SearchHit extra = new SearchHit(SearchResultType.TASK, 9L, 1L, "Landing hero", "<mark>Landing</mark> hero", 0.3f);
+        when(searchBackend.search(eq(1L), eq("landing"), isNull(), eq(3))).thenReturn(List.of(first, second, extra));
+        when(searchBackend.search(eq(1L), eq("landing"), eq(new SearchPosition(0.3f, SearchResultType.TASK, 7L)), eq(3)))
+                .thenReturn(List.of(extra));
+
+        // Act
+        CursorPage<SearchResultResponse> page = searchService.search(1L, " landing ", null, 2);
+        CursorPage<SearchResultResponse> next = searchService.search(1L, "landing", page.getNextCursor(), 2);
+
+        // Assert
+        assertEquals(2, page.getContent().size());
+        assertTrue(page.isHasNext());
+        assertEquals(1, next.getContent().size());
+        assertEquals(9L, next.getContent().getFirst().getId());
+        assertFalse(next.isHasNext());
+    }
+
+    @Test
+    void search_BlankQueryReturnsEmptyPage() {
+        // Act
+        CursorPage<SearchResultResponse> page = searchService.search(1L, "  ", null, 20);
+
+        // Assert
+        assertTrue(page.getContent().isEmpty());
+        verify(searchBackend, never()).search(anyLong(), anyString(), any(), anyInt());
+    }
+
+    @Test
+    void search_InvalidCursorThrows() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> searchService.search(1L, "landing", "bm90LWEtY3Vyc29y", 20));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.project_task_manager.service;
+
+import com.example.project_task_manager.dto.SyncResponse;
+import com.example.project_task_manager.entity.DeletedRecord;
+import com.example.project_task_manager.entity.DeletedRecordType;
+import com.example.project_task_manager.mapper.ProjectMapper;
+import com.example.project_task_manager.mapper.TaskMapper;
+import com.example.project_task_manager.pagination.SyncToken;
+import com.example.project_task_manager.repository.DeletedRecordRepository;
+import com.example.project_task_manager.repository.ProjectRepository;
+import com.example.project_task_manager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private DeletedRecordRepository deletedRecordRepository;
+
+    @Mock
+    private ProjectMapper projectMapper;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new SyncService(projectRepository, taskRepository, deletedRecordRepository,
+                projectMapper, taskMapper, Duration.ofSeconds(5), Duration.ofDays(30));
+    }
+
+    @Test
+    void sync_WithoutToken_ReturnsFullState() {
+        // Arrange
+        when(projectRepository.findSummariesByUserId(1L)).thenReturn(List.of());
+        when(taskRepository.findViewsByUserId(1L)).thenReturn(List.of());
+
+        // Act
+        SyncResponse response = syncService.sync(1L, null);
+
+        // Assert
+        assertTrue(response.isFullResync());
+        assertNotNull(SyncToken.decode(response.getToken()));
+        verifyNoInteractions(deletedRecordRepository);
+    }
+
+    @Test
+    void sync_WithToken_ReturnsChangesSinceTokenMinusOverlap() {
+        // Arrange
+        LocalDateTime syncedAt = LocalDateTime.now().minusMinutes(1);
+        LocalDateTime since = syncedAt.minusSeconds(5);
+        when(projectRepository.findSummariesModifiedSince(1L, since)).thenReturn(List.of());
+        when(taskRepository.findViewsModifiedSince(1L, since)).thenReturn(List.of());
+        when(deletedRecordRepository.findByUserIdAndDeletedAtAfterOrderByDeletedAtAsc(1L, since))
+                .thenReturn(List.of(DeletedRecord.task(7L, 2L, 1L, syncedAt.plusSeconds(10))));
+
+        // Act
+        SyncResponse response = syncService.sync(1L, new SyncToken(syncedAt).encode());
+
+        // Assert
+        assertFalse(response.isFullResync());
+        assertEquals(1, response.getDeleted().size());
+        assertEquals(DeletedRecordType.TASK, response.getDeleted().getFirst().getType());
+        assertEquals(7L, response.getDeleted().getFirst().getId());
+        assertTrue(SyncToken.decode(response.getToken()).syncedAt().isAfter(syncedAt));
+    }
+
+    @Test
+    void sync_TokenOlderThanRetention_ReturnsFullState() {
+        // Arrange
+        when(projectRepository.findSummariesByUserId(1L)).thenReturn(List.of());
+        when(taskRepository.findViewsByUserId(1L)).thenReturn(List.of());
+
+        // Act
+        SyncResponse response = syncService.sync(1L, new SyncToken(LocalDateTime.now().minusDays(31)).encode());
+
+        // Assert
+        assertTrue(response.isFullResync());
+        verify(deletedRecordRepository, never()).findByUserIdAndDeletedAtAfterOrderByDeletedAtAsc(anyLong(), any());
+    }
+
+    @Test
+    void sync_InvalidToken() {
+        assertThrows(IllegalArgumentException.class, () -> syncService.sync(1L, "not-a-token"));
+    }
+}
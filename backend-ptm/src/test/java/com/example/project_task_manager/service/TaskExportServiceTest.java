@@ -0,0 +1,99 @@
+package com.example.project_task_manager.service;
+
+import com.example.project_task_manager.dto.TaskResponse;
+import com.example.project_task_manager.entity.TaskStatus;
+import com.example.project_task_manager.mapper.TaskMapper;
+import com.example.project_task_manager.projection.TaskView;
+import com.example.project_task_manager.repository.ProjectRepository;
+import com.example.project_task_manager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    private TaskExportService taskExportService;
+
+    @BeforeEach
+    void setUp() {
+        taskExportService = new TaskExportService(taskRepository, projectRepository, taskMapper,
+                JsonMapper.builder().build());
+    }
+
+    @Test
+    void export_Csv_EscapesFields() throws Exception {
+        // Arrange
+        TaskView task = mock(TaskView.class);
+        when(task.getId()).thenReturn(1L);
+        when(task.getTitle()).thenReturn("Write \"docs\", then ship");
+        when(task.getStatus()).thenReturn(TaskStatus.IN_PROGRESS);
+        when(taskRepository.streamViewsByProjectId(1L, 1L)).thenReturn(Stream.of(task));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        taskExportService.export(1L, 1L, TaskFileFormat.CSV, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("id,title,description,dueDate,creationDate,updateDate,status", lines[0]);
+        assertEquals("1,\"Write \"\"docs\"\", then ship\",,,,,IN_PROGRESS", lines[1]);
+    }
+
+    @Test
+    void export_Ndjson_OneObjectPerLine() throws Exception {
+        // Arrange
+        TaskView first = mock(TaskView.class);
+        TaskView second = mock(TaskView.class);
+        when(taskRepository.streamViewsByProjectId(1L, 1L)).thenReturn(Stream.of(first, second));
+        when(taskMapper.toResponse(any(TaskView.class)))
+                .thenReturn(TaskResponse.builder().id(1L).title("First").build())
+                .thenReturn(TaskResponse.builder().id(2L).title("Second").build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        taskExportService.export(1L, 1L, TaskFileFormat.NDJSON, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"title\":\"First\""));
+        assertTrue(lines[1].contains("\"id\":2"));
+    }
+
+    @Test
+    void checkProjectAccess_NotOwned() {
+        // Arrange
+        when(projectRepository.existsByIdAndUserId(1L, 2L)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> taskExportService.checkProjectAccess(1L, 2L));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void format_Unsupported() {
+        assertThrows(IllegalArgumentException.class, () -> TaskFileFormat.from("xml"));
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.project_task_manager.service;
+
+import com.example.project_task_manager.dto.TaskFilter;
+import com.example.project_task_manager.dto.TaskResponse;
+import com.example.project_task_manager.entity.Project;
+import com.example.project_task_manager.entity.Task;
+import com.example.project_task_manager.entity.TaskStatus;
+import com.example.project_task_manager.entity.User;
+import com.example.project_task_manager.monitoring.RequestQueryStats;
+import com.example.project_task_manager.repository.ProjectRepository;
+import com.example.project_task_manager.repository.TaskRepository;
+import com.example.project_task_manager.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the filtered task listing against H2, captures the SQL Hibernate
+ * issues for it and checks with EXPLAIN that each filter shape is answered
+ * from the composite indexes on tasks rather than a table scan.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class TaskFilterIndexTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Test User")
+                .email("filters@example.com")
+                .password("password")
+                .build());
+        project = projectRepository.save(Project.builder()
+                .title("Test Project")
+                .description("Test Description")
+                .user(user)
+                .build());
+
+        LocalDate today = LocalDate.now();
+        taskRepository.saveAll(List.of(
+                task("Overdue", TaskStatus.IN_PROGRESS, today.minusDays(2)),
+                task("Due this week", TaskStatus.IN_PROGRESS, today.plusDays(3)),
+                task("Done", TaskStatus.COMPLETED, today.plusDays(3)),
+                task("Someday", TaskStatus.IN_PROGRESS, null)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private Task task(String title, TaskStatus status, LocalDate dueDate) {
+        return Task.builder()
+                .title(title)
+                .status(status)
+                .dueDate(dueDate)
+                .project(project)
+                .build();
+    }
+
+    @Test
+    void getProjectTasksPage_FiltersByStatusAndDueRange() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        TaskFilter openThisWeek = TaskFilter.builder()
+                .statuses(Set.of(TaskStatus.IN_PROGRESS))
+                .dueFrom(today)
+                .dueTo(today.plusDays(7))
+                .build();
+        TaskFilter overdue = TaskFilter.builder()
+                .statuses(Set.of(TaskStatus.IN_PROGRESS))
+                .dueTo(today.minusDays(1))
+                .build();
+
+        // Act
+        Page<TaskResponse> week = taskService.getProjectTasksPage(project.getId(), user.getId(), openThisWeek,
+                PageRequest.of(0, 10, Sort.by("dueDate")));
+        Page<TaskResponse> late = taskService.getProjectTasksPage(project.getId(), user.getId(), overdue,
+                PageRequest.of(0, 10, Sort.by("dueDate")));
+
+        // Assert
+        assertEquals(List.of("Due this week"), week.map(TaskResponse::getTitle).getContent());
+        assertEquals("Test Project", week.getContent().getFirst().getProjectTitle());
+        assertEquals(List.of("Overdue"), late.map(TaskResponse::getTitle).getContent());
+        assertEquals(1, late.getTotalElements());
+    }
+
+    @Test
+    void getProjectTasksPage_OtherUserGetsNothing() {
+        // Arrange
+        TaskFilter filter = TaskFilter.builder().statuses(Set.of(TaskStatus.IN_PROGRESS)).build();
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () ->
+                taskService.getProjectTasksPage(project.getId(), user.getId() + 1, filter, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void explain_StatusAndDueRangeUsesCompositeIndex() {
+        // Arrange
+        TaskFilter filter = TaskFilter.builder()
+                .statuses(Set.of(TaskStatus.IN_PROGRESS))
+                .dueFrom(LocalDate.now())
+                .dueTo(LocalDate.now().plusDays(7))
+                .build();
+
+        // Act
+        List<String> plans = explainIssuedQueries(filter, Sort.by("dueDate"));
+
+        // Assert
+        assertFalse(plans.isEmpty());
+        for (String plan : plans) {
+            assertTrue(plan.contains("IDX_TASKS_PROJECT_STATUS_DUE"), plan);
+            assertFalse(plan.contains("TASKS.tableScan"), plan);
+        }
+    }
+
+    @Test
+    void explain_DueRangeUsesProjectDueIndex() {
+        // Arrange
+        TaskFilter filter = TaskFilter.builder()
+                .dueFrom(LocalDate.now())
+                .dueTo(LocalDate.now().plusDays(7))
+                .build();
+
+        // Act
+        List<String> plans = explainIssuedQueries(filter, Sort.by("dueDate"));
+
+        // Assert
+        assertFalse(plans.isEmpty());
+        for (String plan : plans) {
+            assertTrue(plan.contains("IDX_TASKS_PROJECT_DUE"), plan);
+            assertFalse(plan.contains("TASKS.tableScan"), plan);
+        }
+    }
+
+    @Test
+    void explain_UpdatedSinceUsesProjectUpdatedIndex() {
+        // Arrange
+        TaskFilter filter = TaskFilter.builder()
+                .updatedSince(LocalDateTime.now().minusDays(1))
+                .build();
+
+        // Act
+        List<String> plans = explainIssuedQueries(filter, Sort.unsorted());
+
+        // Assert
+        assertFalse(plans.isEmpty());
+        for (String plan : plans) {
+            assertTrue(plan.contains("IDX_TASKS_PROJECT_UPDATED"), plan);
+            assertFalse(plan.contains("TASKS.tableScan"), plan);
+        }
+    }
+
+    // Runs the listing with the statement inspector recording, then explains each statement
+    // it issued against tasks exactly as Hibernate generated it
+    private List<String> explainIssuedQueries(TaskFilter filter, Sort sort) {
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            taskService.getProjectTasksPage(project.getId(), user.getId(), filter, PageRequest.of(0, 10, sort));
+        } finally {
+            RequestQueryStats.stop();
+        }
+        return stats.getStatementCounts().keySet().stream()
+                .filter(sql -> sql.contains(" from tasks "))
+                .map(this::explain)
+                .toList();
+    }
+
+    // H2 plans a prepared statement before its parameters are bound, so nulls stand in for them
+    private String explain(String sql) {
+        Object[] parameters = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters));
+    }
+}
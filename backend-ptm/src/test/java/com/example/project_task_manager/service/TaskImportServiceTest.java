@@ -0,0 +1,168 @@
+package com.example.project_task_manager.service;
+
+import com.example.project_task_manager.dto.TaskImportReport;
+import com.example.project_task_manager.entity.Project;
+import com.example.project_task_manager.entity.Task;
+import com.example.project_task_manager.entity.TaskStatus;
+import com.example.project_task_manager.repository.ProjectRepository;
+import com.example.project_task_manager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskImportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ValidatorFactory validatorFactory;
+    private TaskImportService taskImportService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        Validator validator = validatorFactory.getValidator();
+        taskImportService = new TaskImportService(taskRepository, projectRepository, entityManager,
+                validator, JsonMapper.builder().build(), eventPublisher, transactionManager, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importTasks_Csv_InsertsInChunks() throws Exception {
+        // Arrange
+        when(projectRepository.existsByIdAndUserId(1L, 1L)).thenReturn(true);
+        when(projectRepository.getReferenceById(1L)).thenReturn(new Project());
+        String csv = """
+                title,description,dueDate,status
+                First,"Multi-line
+                description, with comma",2030-01-31,
+                Second,,,completed
+                Third,,,
+                """;
+
+        // Act
+        TaskImportReport report = taskImportService.importTasks(1L, 1L, TaskFileFormat.CSV, body(csv));
+
+        // Assert
+        assertEquals(3, report.getImported());
+        assertEquals(0, report.getFailed());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Task>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository, times(2)).saveAll(chunks.capture());
+        Task first = chunks.getAllValues().getFirst().getFirst();
+        assertEquals("Multi-line\ndescription, with comma", first.getDescription());
+        assertEquals(LocalDate.of(2030, 1, 31), first.getDueDate());
+        verify(projectRepository).adjustTaskCounters(eq(1L), eq(2), eq(1), any(LocalDateTime.class));
+        verify(projectRepository).adjustTaskCounters(eq(1L), eq(1), eq(0), any(LocalDateTime.class));
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void importTasks_Ndjson_ReportsInvalidRows() throws Exception {
+        // Arrange
+        when(projectRepository.existsByIdAndUserId(1L, 1L)).thenReturn(true);
+        when(projectRepository.getReferenceById(1L)).thenReturn(new Project());
+        String ndjson = """
+                {"title":"Valid","dueDate":"2030-01-31"}
+                {"title":""}
+                {not json
+
+                {"title":"Also valid","status":"COMPLETED"}
+                """;
+
+        // Act
+        TaskImportReport report = taskImportService.importTasks(1L, 1L, TaskFileFormat.NDJSON, body(ndjson));
+
+        // Assert
+        assertEquals(2, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertEquals(2L, report.getErrors().get(0).getRow());
+        assertEquals("title is required", report.getErrors().get(0).getMessage());
+        assertEquals(3L, report.getErrors().get(1).getRow());
+        assertTrue(report.getErrors().get(1).getMessage().startsWith("Invalid JSON"));
+        assertFalse(report.isErrorsTruncated());
+        verify(taskRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void importTasks_ErrorReportIsCapped() throws Exception {
+        // Arrange
+        when(projectRepository.existsByIdAndUserId(1L, 1L)).thenReturn(true);
+        String csv = "title,status\n" + "Task,unknown\n".repeat(15);
+
+        // Act
+        TaskImportReport report = taskImportService.importTasks(1L, 1L, TaskFileFormat.CSV, body(csv));
+
+        // Assert
+        assertEquals(0, report.getImported());
+        assertEquals(15, report.getFailed());
+        assertEquals(10, report.getErrors().size());
+        assertTrue(report.isErrorsTruncated());
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void importTasks_ProjectNotOwned() {
+        // Arrange
+        when(projectRepository.existsByIdAndUserId(1L, 2L)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () ->
+                taskImportService.importTasks(1L, 2L, TaskFileFormat.CSV, body("title\nTask\n")));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void importTasks_CsvWithoutTitleColumn() {
+        // Arrange
+        when(projectRepository.existsByIdAndUserId(1L, 1L)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                taskImportService.importTasks(1L, 1L, TaskFileFormat.CSV, body("name\nTask\n")));
+    }
+}
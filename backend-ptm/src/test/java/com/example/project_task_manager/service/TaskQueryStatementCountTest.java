@@ -0,0 +1,146 @@
+package com.example.project_task_manager.service;
+
+import com.example.project_task_manager.dto.CursorPage;
+import com.example.project_task_manager.dto.TaskResponse;
+import com.example.project_task_manager.entity.Project;
+import com.example.project_task_manager.entity.Task;
+import com.example.project_task_manager.entity.TaskStatus;
+import com.example.project_task_manager.entity.User;
+import com.example.project_task_manager.repository.ProjectRepository;
+import com.example.project_task_manager.repository.TaskRepository;
+import com.example.project_task_manager.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the SQL statements issued per page of tasks, so a lazy load of
+ * the project while mapping shows up as a failure instead of an N+1.
+ */
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-test.properties",
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+class TaskQueryStatementCountTest {
+
+    private static final int TASK_COUNT = 12;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        user = userRepository.save(User.builder()
+                .name("Test User")
+                .email("statements@example.com")
+                .password("password")
+                .build());
+        project = projectRepository.save(Project.builder()
+                .title("Test Project")
+                .description("Test Description")
+                .user(user)
+                .build());
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            tasks.add(Task.builder()
+                    .title("Task " + i)
+                    .dueDate(i % 3 == 0 ? null : LocalDate.now().plusDays(i))
+                    .status(TaskStatus.IN_PROGRESS)
+                    .project(project)
+                    .build());
+        }
+        taskRepository.saveAll(tasks);
+
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void allTasks_OneStatement() {
+        // Act
+        List<TaskResponse> tasks = taskService.getAllProjectTasks(project.getId(), user.getId());
+
+        // Assert
+        assertEquals(TASK_COUNT, tasks.size());
+        assertEquals("Test Project", tasks.getFirst().getProjectTitle());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void offsetPage_SelectAndCountOnly() {
+        // Act
+        Page<TaskResponse> page = taskService.getProjectTasksPage(project.getId(), user.getId(),
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "creationDate")));
+
+        // Assert
+        assertEquals(5, page.getContent().size());
+        assertEquals(TASK_COUNT, page.getTotalElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void cursorSlice_OneStatementPerSlice() {
+        // Act
+        CursorPage<TaskResponse> first = taskService.getProjectTasksSlice(
+                project.getId(), user.getId(), "creationDate", null, 5);
+        CursorPage<TaskResponse> second = taskService.getProjectTasksSlice(
+                project.getId(), user.getId(), "creationDate", first.getNextCursor(), 5);
+
+        // Assert
+        assertEquals(5, first.getContent().size());
+        assertEquals(5, second.getContent().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void emptyResult_ChecksOwnership() {
+        // Act & Assert
+        assertThrows(RuntimeException.class, () ->
+                taskService.getAllProjectTasks(project.getId(), user.getId() + 1));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
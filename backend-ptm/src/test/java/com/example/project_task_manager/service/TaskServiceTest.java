@@ -1,20 +1,37 @@
 package com.example.project_task_manager.service;
 
+import com.example.project_task_manager.dto.CursorPage;
+import com.example.project_task_manager.dto.TaskFilter;
 import com.example.project_task_manager.dto.TaskRequest;
 import com.example.project_task_manager.dto.TaskResponse;
+import com.example.project_task_manager.entity.DeletedRecord;
+import com.example.project_task_manager.entity.DeletedRecordType;
 import com.example.project_task_manager.entity.Project;
 import com.example.project_task_manager.entity.Task;
 import com.example.project_task_manager.entity.TaskStatus;
 import com.example.project_task_manager.entity.User;
 import com.example.project_task_manager.mapper.TaskMapper;
+import com.example.project_task_manager.notification.ProjectChangeEvent;
+import com.example.project_task_manager.pagination.KeysetCursor;
+import com.example.project_task_manager.projection.TaskView;
+import com.example.project_task_manager.repository.DeletedRecordRepository;
 import com.example.project_task_manager.repository.ProjectRepository;
 import com.example.project_task_manager.repository.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -22,6 +39,11 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,9 +55,15 @@ class TaskServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private DeletedRecordRepository deletedRecordRepository;
+
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -95,7 +123,6 @@ class TaskServiceTest {
         // Arrange
         when(projectRepository.findByIdAndUserId(1L, user.getId())).thenReturn(Optional.of(project));
         when(taskRepository.save(any(Task.class))).thenReturn(task);
-        when(projectRepository.save(any(Project.class))).thenReturn(project);
         when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
 
         // Act
@@ -105,7 +132,9 @@ class TaskServiceTest {
         assertNotNull(response);
         assertEquals("Test Task", response.getTitle());
         verify(taskRepository, times(1)).save(any(Task.class));
-        verify(projectRepository, times(1)).save(any(Project.class));
+        verify(projectRepository, times(1)).adjustTaskCounters(eq(1L), eq(1), eq(0), any(LocalDateTime.class));
+        verify(projectRepository, never()).save(any(Project.class));
+        verify(eventPublisher, times(1)).publishEvent(ProjectChangeEvent.tasksChanged(user.getId(), 1L));
     }
 
     @Test
@@ -123,10 +152,9 @@ class TaskServiceTest {
     @Test
     void getAllProjectTasks_Success() {
         // Arrange
-        List<Task> tasks = Collections.singletonList(task);
-        when(projectRepository.findByIdAndUserId(1L, user.getId())).thenReturn(Optional.of(project));
-        when(taskRepository.findByProjectId(1L)).thenReturn(tasks);
-        when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+        TaskView view = mock(TaskView.class);
+        when(taskRepository.findViewsByProjectId(1L, user.getId())).thenReturn(List.of(view));
+        when(taskMapper.toResponse(view)).thenReturn(taskResponse);
 
         // Act
         List<TaskResponse> responses = taskService.getAllProjectTasks(1L, user.getId());
@@ -134,14 +162,123 @@ class TaskServiceTest {
         // Assert
         assertNotNull(responses);
         assertEquals(1, responses.size());
-        verify(taskRepository, times(1)).findByProjectId(1L);
+        verify(taskRepository, times(1)).findViewsByProjectId(1L, user.getId());
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void getAllProjectTasks_EmptyProject() {
+        // Arrange
+        when(taskRepository.findViewsByProjectId(1L, user.getId())).thenReturn(Collections.emptyList());
+        when(projectRepository.existsByIdAndUserId(1L, user.getId())).thenReturn(true);
+
+        // Act
+        List<TaskResponse> responses = taskService.getAllProjectTasks(1L, user.getId());
+
+        // Assert
+        assertTrue(responses.isEmpty());
+    }
+
+    @Test
+    void getAllProjectTasks_ProjectNotOwned() {
+        // Arrange
+        when(taskRepository.findViewsByProjectId(1L, user.getId())).thenReturn(Collections.emptyList());
+        when(projectRepository.existsByIdAndUserId(1L, user.getId())).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> taskService.getAllProjectTasks(1L, user.getId()));
+    }
+
+    @Test
+    void getProjectTasksSlice_ByCreationDate() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.now();
+        TaskView first = mock(TaskView.class);
+        TaskView older = mock(TaskView.class);
+        when(first.getId()).thenReturn(1L);
+        when(first.getCreationDate()).thenReturn(createdAt);
+        when(taskRepository.findByProjectIdByCreationDateFirst(1L, user.getId(), Limit.of(2)))
+                .thenReturn(List.of(first, older));
+        when(taskMapper.toResponse(first)).thenReturn(taskResponse);
+
+        // Act
+        CursorPage<TaskResponse> slice = taskService.getProjectTasksSlice(1L, user.getId(), "creationDate", null, 1);
+
+        // Assert
+        assertEquals(1, slice.getContent().size());
+        assertTrue(slice.isHasNext());
+        KeysetCursor next = KeysetCursor.decode(slice.getNextCursor());
+        assertEquals(createdAt, next.keyAsDateTime());
+        assertEquals(1L, next.id());
+    }
+
+    @Test
+    void getProjectTasksSlice_ByDueDateContinuesWithUndatedTasks() {
+        // Arrange
+        TaskView dated = mock(TaskView.class);
+        TaskView undated = mock(TaskView.class);
+        String cursor = KeysetCursor.of(LocalDate.now(), 3L).encode();
+        when(taskRepository.findByProjectIdByDueDateAfter(1L, user.getId(), LocalDate.now(), 3L, Limit.of(3)))
+                .thenReturn(List.of(dated));
+        when(taskRepository.findByProjectIdWithoutDueDateAfter(1L, user.getId(), 0L, Limit.of(2)))
+                .thenReturn(List.of(undated));
+        when(taskMapper.toResponse(any(TaskView.class))).thenReturn(taskResponse);
+
+        // Act
+        CursorPage<TaskResponse> slice = taskService.getProjectTasksSlice(1L, user.getId(), "dueDate", cursor, 2);
+
+        // Assert
+        assertEquals(2, slice.getContent().size());
+        assertFalse(slice.isHasNext());
+    }
+
+    @Test
+    void getProjectTasksSlice_UnsupportedSort() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                taskService.getProjectTasksSlice(1L, user.getId(), "title", null, 5));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getProjectTasksPage_FilteredUsesSpecificationProjection() {
+        // Arrange
+        TaskFilter filter = TaskFilter.builder()
+                .statuses(Set.of(TaskStatus.IN_PROGRESS))
+                .dueTo(LocalDate.now())
+                .build();
+        Pageable pageable = PageRequest.of(0, 5);
+        TaskView view = mock(TaskView.class);
+        when(taskRepository.findBy(ArgumentMatchers.<Specification<Task>>any(), any()))
+                .thenReturn(new PageImpl<>(List.of(view), pageable, 1));
+        when(taskMapper.toResponse(view)).thenReturn(taskResponse);
+
+        // Act
+        Page<TaskResponse> page = taskService.getProjectTasksPage(1L, user.getId(), filter, pageable);
+
+        // Assert
+        assertEquals(List.of(taskResponse), page.getContent());
+        verify(taskRepository, never()).findViewPageByProjectId(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void getProjectTasksPage_InvalidDueRange() {
+        // Arrange
+        TaskFilter filter = TaskFilter.builder()
+                .dueFrom(LocalDate.now())
+                .dueTo(LocalDate.now().minusDays(1))
+                .build();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                taskService.getProjectTasksPage(1L, user.getId(), filter, PageRequest.of(0, 5)));
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
     void getTaskById_Success() {
         // Arrange
-        when(projectRepository.findByIdAndUserId(1L, user.getId())).thenReturn(Optional.of(project));
-        when(taskRepository.findByIdAndProjectId(1L, 1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findOwnedTask(1L, 1L, user.getId())).thenReturn(Optional.of(task));
         when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
 
         // Act
@@ -150,16 +287,39 @@ class TaskServiceTest {
         // Assert
         assertNotNull(response);
         assertEquals("Test Task", response.getTitle());
-        verify(taskRepository, times(1)).findByIdAndProjectId(1L, 1L);
+        verify(taskRepository, times(1)).findOwnedTask(1L, 1L, user.getId());
+        verifyNoMoreInteractions(projectRepository);
+    }
+
+    @Test
+    void getTaskById_TaskNotFound() {
+        // Arrange
+        when(taskRepository.findOwnedTask(1L, 1L, user.getId())).thenReturn(Optional.empty());
+        when(projectRepository.existsByIdAndUserId(1L, user.getId())).thenReturn(true);
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class, () ->
+                taskService.getTaskById(1L, 1L, user.getId()));
+        assertEquals("Task not found", exception.getMessage());
+    }
+
+    @Test
+    void getTaskById_ProjectNotOwned() {
+        // Arrange
+        when(taskRepository.findOwnedTask(1L, 1L, user.getId())).thenReturn(Optional.empty());
+        when(projectRepository.existsByIdAndUserId(1L, user.getId())).thenReturn(false);
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class, () ->
+                taskService.getTaskById(1L, 1L, user.getId()));
+        assertEquals("Project not found or access denied", exception.getMessage());
     }
 
     @Test
     void updateTask_Success() {
         // Arrange
-        when(projectRepository.findByIdAndUserId(1L, user.getId())).thenReturn(Optional.of(project));
-        when(taskRepository.findByIdAndProjectId(1L, 1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findOwnedTask(1L, 1L, user.getId())).thenReturn(Optional.of(task));
         when(taskRepository.save(any(Task.class))).thenReturn(task);
-        when(projectRepository.save(any(Project.class))).thenReturn(project);
         when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
 
         // Act
@@ -168,16 +328,15 @@ class TaskServiceTest {
         // Assert
         assertNotNull(response);
         verify(taskRepository, times(1)).save(any(Task.class));
-        verify(projectRepository, times(1)).save(any(Project.class));
+        verify(projectRepository, times(1)).touch(eq(1L), any(LocalDateTime.class));
+        verify(projectRepository, never()).save(any(Project.class));
     }
 
     @Test
     void markTaskAsCompleted_Success() {
         // Arrange
-        when(projectRepository.findByIdAndUserId(1L, user.getId())).thenReturn(Optional.of(project));
-        when(taskRepository.findByIdAndProjectId(1L, 1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
-        when(projectRepository.save(any(Project.class))).thenReturn(project);
+        when(taskRepository.findOwnedTask(1L, 1L, user.getId())).thenReturn(Optional.of(task));
+        when(taskRepository.markCompleted(eq(List.of(1L)), any(LocalDateTime.class))).thenReturn(1);
         when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
 
         // Act
@@ -185,23 +344,178 @@ class TaskServiceTest {
 
         // Assert
         assertNotNull(response);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(projectRepository, times(1)).adjustTaskCounters(eq(1L), eq(0), eq(1), any(LocalDateTime.class));
+        assertEquals(TaskStatus.COMPLETED, task.getStatus());
+    }
+
+    @Test
+    void markTaskAsCompleted_AlreadyCompleted() {
+        // Arrange
+        task.setStatus(TaskStatus.COMPLETED);
+        when(taskRepository.findOwnedTask(1L, 1L, user.getId())).thenReturn(Optional.of(task));
+        when(taskRepository.markCompleted(eq(List.of(1L)), any(LocalDateTime.class))).thenReturn(0);
+        when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+
+        // Act
+        taskService.markTaskAsCompleted(1L, 1L, user.getId());
+
+        // Assert
+        verify(projectRepository, never()).adjustTaskCounters(anyLong(), anyInt(), anyInt(), any());
+        verify(projectRepository, times(1)).touch(eq(1L), any(LocalDateTime.class));
+    }
+
+    @Test
+    void markTaskAsCompleted_CompletedConcurrently_CountedOnce() {
+        // Arrange: read as in progress, but another request completed it before our UPDATE
+        when(taskRepository.findOwnedTask(1L, 1L, user.getId())).thenReturn(Optional.of(task));
+        when(taskRepository.markCompleted(eq(List.of(1L)), any(LocalDateTime.class))).thenReturn(0);
+        when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+
+        // Act
+        taskService.markTaskAsCompleted(1L, 1L, user.getId());
+
+        // Assert
+        verify(projectRepository, never()).adjustTaskCounters(anyLong(), anyInt(), anyInt(), any());
+        verify(projectRepository, times(1)).touch(eq(1L), any(LocalDateTime.class));
         assertEquals(TaskStatus.COMPLETED, task.getStatus());
     }
 
     @Test
     void deleteTask_Success() {
         // Arrange
-        when(projectRepository.findByIdAndUserId(1L, user.getId())).thenReturn(Optional.of(project));
-        when(taskRepository.findByIdAndProjectId(1L, 1L)).thenReturn(Optional.of(task));
-        doNothing().when(taskRepository).delete(any(Task.class));
-        when(projectRepository.save(any(Project.class))).thenReturn(project);
+        when(taskRepository.findOwnedTask(1L, 1L, user.getId())).thenReturn(Optional.of(task));
+        when(taskRepository.deleteOpen(Set.of(1L), 1L)).thenReturn(1);
 
         // Act
         taskService.deleteTask(1L, 1L, user.getId());
 
         // Assert
-        verify(taskRepository, times(1)).delete(task);
-        verify(projectRepository, times(1)).save(any(Project.class));
+        verify(taskRepository, never()).deleteCompleted(anyCollection(), anyLong());
+        verify(deletedRecordRepository, times(1)).save(argThat((DeletedRecord record) ->
+                record.getEntityType() == DeletedRecordType.TASK && record.getEntityId().equals(1L)));
+        verify(projectRepository, times(1)).adjustTaskCounters(eq(1L), eq(-1), eq(0), any(LocalDateTime.class));
+        verify(projectRepository, never()).save(any(Project.class));
+    }
+
+    @Test
+    void deleteTask_CompletedConcurrently_CountedAsCompleted() {
+        // Arrange: the task was open when read, but a completion committed before the DELETE
+        when(taskRepository.findOwnedTask(1L, 1L, user.getId())).thenReturn(Optional.of(task));
+        when(taskRepository.deleteOpen(Set.of(1L), 1L)).thenReturn(0);
+        when(taskRepository.deleteCompleted(Set.of(1L), 1L)).thenReturn(1);
+
+        // Act
+        taskService.deleteTask(1L, 1L, user.getId());
+
+        // Assert
+        verify(projectRepository, times(1)).adjustTaskCounters(eq(1L), eq(-1), eq(-1), any(LocalDateTime.class));
+    }
+
+    @Test
+    void deleteTask_DeletedConcurrently_NothingCounted() {
+        // Arrange
+        when(taskRepository.findOwnedTask(1L, 1L, user.getId())).thenReturn(Optional.of(task));
+        when(taskRepository.deleteOpen(Set.of(1L), 1L)).thenReturn(0);
+        when(taskRepository.deleteCompleted(Set.of(1L), 1L)).thenReturn(0);
+
+        // Act
+        taskService.deleteTask(1L, 1L, user.getId());
+
+        // Assert
+        verify(projectRepository, never()).adjustTaskCounters(anyLong(), anyInt(), anyInt(), any());
+        verify(deletedRecordRepository, never()).save(any(DeletedRecord.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void createTasks_Success() {
+        // Arrange
+        when(projectRepository.findByIdAndUserId(1L, user.getId())).thenReturn(Optional.of(project));
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+
+        // Act
+        List<TaskResponse> responses = taskService.createTasks(1L, List.of(taskRequest, taskRequest), user.getId());
+
+        // Assert
+        assertEquals(2, responses.size());
+        verify(projectRepository, times(1)).findByIdAndUserId(1L, user.getId());
+        verify(projectRepository, times(1)).adjustTaskCounters(eq(1L), eq(2), eq(0), any(LocalDateTime.class));
+    }
+
+    @Test
+    void createTasks_EmptyBatch() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+                taskService.createTasks(1L, Collections.emptyList(), user.getId()));
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void completeTasks_CountsOnlyNewlyCompleted() {
+        // Arrange
+        Task done = Task.builder().id(2L).status(TaskStatus.COMPLETED).project(project).build();
+        when(taskRepository.findOwnedTasks(anyCollection(), eq(1L), eq(user.getId()))).thenReturn(List.of(task, done));
+        when(taskRepository.markCompleted(eq(Set.of(1L, 2L)), any(LocalDateTime.class))).thenReturn(1);
+        when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+
+        // Act
+        List<TaskResponse> responses = taskService.completeTasks(1L, List.of(1L, 2L), user.getId());
+
+        // Assert
+        assertEquals(2, responses.size());
+        assertEquals(TaskStatus.COMPLETED, task.getStatus());
+        verify(projectRepository, times(1)).adjustTaskCounters(eq(1L), eq(0), eq(1), any(LocalDateTime.class));
+        // One event for the whole batch
+        verify(eventPublisher, times(1)).publishEvent(ProjectChangeEvent.tasksChanged(user.getId(), 1L));
+    }
+
+    @Test
+    void completeTasks_TaskNotInProject() {
+        // Arrange
+        when(taskRepository.findOwnedTasks(anyCollection(), eq(1L), eq(user.getId()))).thenReturn(List.of(task));
+        when(projectRepository.existsByIdAndUserId(1L, user.getId())).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () ->
+                taskService.completeTasks(1L, List.of(1L, 99L), user.getId()));
+        verify(projectRepository, never()).adjustTaskCounters(anyLong(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void deleteTasks_Success() {
+        // Arrange
+        Task done = Task.builder().id(2L).status(TaskStatus.COMPLETED).project(project).build();
+        when(taskRepository.findOwnedTasks(anyCollection(), eq(1L), eq(user.getId()))).thenReturn(List.of(task, done));
+        when(taskRepository.deleteOpen(Set.of(1L), 1L)).thenReturn(1);
+        when(taskRepository.deleteCompleted(Set.of(2L), 1L)).thenReturn(1);
+
+        // Act
+        taskService.deleteTasks(1L, List.of(1L, 2L), user.getId());
+
+        // Assert
+        InOrder inOrder = inOrder(deletedRecordRepository, taskRepository);
+        inOrder.verify(deletedRecordRepository).insertTaskTombstones(eq(Set.of(1L, 2L)), eq(1L), eq(user.getId()),
+                any(LocalDateTime.class));
+        inOrder.verify(taskRepository).deleteOpen(Set.of(1L), 1L);
+        inOrder.verify(taskRepository).deleteCompleted(Set.of(2L), 1L);
+        verify(deletedRecordRepository, never()).saveAll(anyList());
+        verify(projectRepository, times(1)).adjustTaskCounters(eq(1L), eq(-2), eq(-1), any(LocalDateTime.class));
+    }
+
+    @Test
+    void deleteTasks_PartlyDeletedConcurrently_CountsRowsDeleted() {
+        // Arrange: of the two open tasks read, one was deleted and one completed by other requests
+        Task other = Task.builder().id(2L).status(TaskStatus.IN_PROGRESS).project(project).build();
+        when(taskRepository.findOwnedTasks(anyCollection(), eq(1L), eq(user.getId()))).thenReturn(List.of(task, other));
+        when(taskRepository.deleteOpen(Set.of(1L, 2L), 1L)).thenReturn(0);
+        when(taskRepository.deleteCompleted(Set.of(1L, 2L), 1L)).thenReturn(1);
+
+        // Act
+        taskService.deleteTasks(1L, List.of(1L, 2L), user.getId());
+
+        // Assert
+        verify(projectRepository, times(1)).adjustTaskCounters(eq(1L), eq(-1), eq(-1), any(LocalDateTime.class));
     }
-}
\ No newline at end of file
+}
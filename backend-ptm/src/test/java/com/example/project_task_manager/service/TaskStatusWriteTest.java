@@ -0,0 +1,103 @@
+package com.example.project_task_manager.service;
+
+import com.example.project_task_manager.entity.Project;
+import com.example.project_task_manager.entity.Task;
+import com.example.project_task_manager.entity.TaskStatus;
+import com.example.project_task_manager.entity.User;
+import com.example.project_task_manager.repository.ProjectRepository;
+import com.example.project_task_manager.repository.TaskRepository;
+import com.example.project_task_manager.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a task's status only changes through the conditional
+ * completion UPDATE: an edit loaded before a completion must not write the
+ * old status back, or the project's completed counter would drift.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class TaskStatusWriteTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Test User")
+                .email("status@example.com")
+                .password("password")
+                .build());
+        project = projectRepository.save(Project.builder()
+                .title("Test Project")
+                .user(user)
+                .totalTasks(1)
+                .build());
+        task = taskRepository.save(Task.builder()
+                .title("Task")
+                .status(TaskStatus.IN_PROGRESS)
+                .project(project)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void editFlushedAfterCompletion_KeepsCompletedStatus() {
+        // Act: the task is loaded, then completed by another request, then the edit is flushed
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Task loaded = taskRepository.findById(task.getId()).orElseThrow();
+            jdbcTemplate.update("UPDATE tasks SET status = 'COMPLETED' WHERE id = ?", task.getId());
+            loaded.setTitle("Edited");
+        });
+
+        // Assert
+        Task stored = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals("Edited", stored.getTitle());
+        assertEquals(TaskStatus.COMPLETED, stored.getStatus());
+    }
+
+    @Test
+    void markTaskAsCompleted_StatusAndCounterWritten() {
+        // Act
+        taskService.markTaskAsCompleted(project.getId(), task.getId(), user.getId());
+
+        // Assert
+        assertEquals(TaskStatus.COMPLETED, taskRepository.findById(task.getId()).orElseThrow().getStatus());
+        assertEquals(1, projectRepository.findById(project.getId()).orElseThrow().getCompletedTasks());
+    }
+}
@@ -0,0 +1,42 @@
+-- The schema ddl-auto=update created before the Flyway migrations, as Hibernate generated it,
+-- with a few rows: the starting point of an upgraded production database.
+
+create table users (
+    id bigint generated by default as identity,
+    email varchar(255) not null,
+    name varchar(255) not null,
+    password varchar(255) not null,
+    primary key (id)
+);
+
+create table projects (
+    id bigint generated by default as identity,
+    creation_date timestamp(6),
+    description varchar(255),
+    last_modified_date timestamp(6),
+    title varchar(255) not null,
+    user_id bigint not null,
+    primary key (id)
+);
+
+create table tasks (
+    id bigint generated by default as identity,
+    creation_date timestamp(6),
+    description varchar(255),
+    due_date date,
+    status varchar(255) not null check ((status in ('IN_PROGRESS','COMPLETED'))),
+    title varchar(255) not null,
+    update_date timestamp(6),
+    project_id bigint not null,
+    primary key (id)
+);
+
+alter table if exists projects add constraint FKhswfwa3ga88vxv1pmboss6jhm foreign key (user_id) references users;
+alter table if exists tasks add constraint FKsfhn82y57i3k9uxww1s007acc foreign key (project_id) references projects;
+
+insert into users (email, name, password) values ('legacy@example.com', 'Legacy User', 'hash');
+insert into projects (title, user_id, creation_date, last_modified_date)
+select title, (select id from users), now(), now() from (values ('Three tasks'), ('No tasks')) v (title);
+insert into tasks (title, status, project_id, creation_date, update_date)
+select title, status, (select id from projects where title = 'Three tasks'), now(), now()
+from (values ('Done', 'COMPLETED'), ('Also done', 'COMPLETED'), ('Open', 'IN_PROGRESS')) v (title, status);